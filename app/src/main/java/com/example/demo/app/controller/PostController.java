@@ -2,12 +2,24 @@ package com.example.demo.app.controller;
 
 import com.example.demo.app.model.Post;
 import com.example.demo.app.service.PostService;
+import com.example.demo.app.web.ResponseCache;
+import com.example.demo.app.web.SerializedResponse;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -16,8 +28,20 @@ public class PostController {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${response-cache.posts-ttl-ms:5000}")
+    private long postsTtlMillis;
+
+    // The body is pre-serialized bytes; describe the JSON it holds rather than a binary string.
     @GetMapping
-    public List<Post> getPosts() {
-        return postService.getPosts();
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = Post.class))))
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match", content = @Content)
+    public ResponseEntity<byte[]> getPosts(@RequestHeader HttpHeaders headers) {
+        SerializedResponse posts = responseCache.get("posts", postsTtlMillis, postService::getPosts);
+        return ResponseCache.toResponseEntity(posts, headers,
+                CacheControl.maxAge(postsTtlMillis, TimeUnit.MILLISECONDS).cachePublic());
     }
 }
@@ -0,0 +1,14 @@
+package com.example.demo.app.stock.account;
+
+public class AccountAccessDeniedException extends RuntimeException {
+    private final String accountId;
+
+    public AccountAccessDeniedException(String accountId) {
+        super("Access denied to account: " + accountId);
+        this.accountId = accountId;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+}
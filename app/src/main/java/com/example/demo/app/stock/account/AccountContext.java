@@ -0,0 +1,97 @@
+package com.example.demo.app.stock.account;
+
+import com.example.demo.app.stock.dto.TokenResponse;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Everything that belongs to one brokerage account: its credentials, access token, call budget
+ * and cached balance. Each account synchronizes on its own state only, so requests for
+ * different accounts never wait on each other.
+ */
+public class AccountContext {
+    private static final long TOKEN_EXPIRY_BUFFER_MS = 60 * 1000; // 60 seconds buffer
+
+    private final AccountCredentials credentials;
+    private final RateLimiter rateLimiter;
+    private final long maxPermitWaitMillis;
+    private final long balanceCacheTtlMillis;
+    private final Object tokenLock = new Object();
+    private final Object balanceLock = new Object();
+
+    private String accessToken;
+    private long tokenExpiresAt;
+
+    private Map<String, Object> cachedBalance;
+    private long balanceCachedAt;
+
+    private volatile long lastAccessedAt = System.currentTimeMillis();
+
+    public AccountContext(AccountCredentials credentials, double requestsPerSecond, long maxPermitWaitMillis,
+                          long balanceCacheTtlMillis) {
+        this.credentials = credentials;
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.maxPermitWaitMillis = maxPermitWaitMillis;
+        this.balanceCacheTtlMillis = balanceCacheTtlMillis;
+    }
+
+    public AccountCredentials getCredentials() {
+        return credentials;
+    }
+
+    public String getAccountId() {
+        return credentials.getAccountId();
+    }
+
+    public void touch() {
+        lastAccessedAt = System.currentTimeMillis();
+    }
+
+    public long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    /**
+     * Waits for this account's next request slot. Throws {@link RateLimitExceededException} when
+     * the slot is further away than the configured maximum wait.
+     */
+    public void acquirePermit() {
+        if (!rateLimiter.tryAcquire(maxPermitWaitMillis, TimeUnit.MILLISECONDS)) {
+            throw new RateLimitExceededException(getAccountId());
+        }
+    }
+
+    public String getValidAccessToken(Function<AccountCredentials, TokenResponse> issuer) {
+        synchronized (tokenLock) {
+            long now = System.currentTimeMillis();
+            if (accessToken == null || now >= tokenExpiresAt) {
+                TokenResponse tokenResponse = issuer.apply(credentials);
+                accessToken = tokenResponse.getAccess_token();
+                tokenExpiresAt = now + tokenResponse.getExpires_in() * 1000L - TOKEN_EXPIRY_BUFFER_MS;
+            }
+            return accessToken;
+        }
+    }
+
+    /** Returns the cached balance while it is fresh; otherwise loads and caches a new one. */
+    public Map<String, Object> getBalance(Supplier<Map<String, Object>> loader) {
+        synchronized (balanceLock) {
+            long now = System.currentTimeMillis();
+            if (cachedBalance == null || now - balanceCachedAt >= balanceCacheTtlMillis) {
+                cachedBalance = loader.get();
+                balanceCachedAt = now;
+            }
+            return cachedBalance;
+        }
+    }
+
+    /** Drops the cached balance, e.g. after an order changed it. */
+    public void invalidateBalance() {
+        synchronized (balanceLock) {
+            cachedBalance = null;
+        }
+    }
+}
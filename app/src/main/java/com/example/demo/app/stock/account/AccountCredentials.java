@@ -0,0 +1,35 @@
+package com.example.demo.app.stock.account;
+
+public class AccountCredentials {
+    private final String accountId;
+    private final String appKey;
+    private final String appSecret;
+    private final String accountNumber;
+
+    public AccountCredentials(String accountId, String appKey, String appSecret, String accountNumber) {
+        this.accountId = accountId;
+        this.appKey = appKey;
+        this.appSecret = appSecret;
+        this.accountNumber = accountNumber;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public String getAppKey() {
+        return appKey;
+    }
+
+    public String getAppSecret() {
+        return appSecret;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String[] getAccountParts() {
+        return accountNumber.split("-");
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.app.stock.account;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves an account id to its {@link AccountContext}. Contexts are created on first use from
+ * {@code korea.investment.accounts.<id>.app-key}, {@code .app-secret} and {@code .account-number};
+ * the {@value #DEFAULT_ACCOUNT_ID} account falls back to the single-account properties. Contexts
+ * that have not been used for {@code stock.account.idle-timeout-ms} are dropped and rebuilt on
+ * the next request, so only recently active accounts keep a token and cache in memory.
+ * <p>
+ * The account id comes from a request header, so it is not proof that the caller may use the
+ * account. {@link #checkAccess} is the trust boundary: the default account stays open, as in a
+ * single-account deployment, while any other account must be configured with
+ * {@code korea.investment.accounts.<id>.api-token} and the caller must present that token.
+ */
+@Service
+public class AccountRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountRegistry.class);
+
+    public static final String DEFAULT_ACCOUNT_ID = "default";
+
+    private static final Pattern ACCOUNT_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final long SWEEP_INTERVAL_MS = 60 * 1000;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${korea.investment.rate-limit.per-second:2}")
+    private double requestsPerSecond;
+
+    @Value("${korea.investment.rate-limit.max-wait-ms:1000}")
+    private long maxPermitWaitMillis;
+
+    @Value("${stock.account.balance-cache-ttl-ms:2000}")
+    private long balanceCacheTtlMillis;
+
+    @Value("${stock.account.idle-timeout-ms:1800000}")
+    private long idleTimeoutMillis;
+
+    @Value("${stock.account.max-accounts:1000}")
+    private int maxAccounts;
+
+    private final Map<String, AccountContext> accounts = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong(System.currentTimeMillis());
+    private final List<Consumer<String>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the context for {@code accountId}, or for the default account when it is null or
+     * blank. Throws {@link UnknownAccountException} when the account is not configured.
+     */
+    public AccountContext get(String accountId) {
+        String id = resolveId(accountId);
+        evictIdle(System.currentTimeMillis());
+
+        AccountContext context = accounts.get(id);
+        if (context == null) {
+            if (!ACCOUNT_ID_PATTERN.matcher(id).matches()) {
+                throw new UnknownAccountException(id);
+            }
+            if (accounts.size() >= maxAccounts) {
+                throw new IllegalStateException("Too many active accounts (" + maxAccounts + ")");
+            }
+            context = accounts.computeIfAbsent(id, this::createContext);
+        }
+        context.touch();
+        return context;
+    }
+
+    /** Maps a requested account id to the id it is served under: null or blank means the default account. */
+    public static String resolveId(String accountId) {
+        return accountId == null || accountId.isBlank() ? DEFAULT_ACCOUNT_ID : accountId.trim();
+    }
+
+    /**
+     * Throws {@link AccountAccessDeniedException} unless the caller may act on {@code accountId}:
+     * the default account is always allowed; any other account only with its configured API token.
+     * Accounts without a configured token cannot be used through the API at all.
+     */
+    public void checkAccess(String accountId, String apiToken) {
+        String id = resolveId(accountId);
+        if (DEFAULT_ACCOUNT_ID.equals(id)) {
+            return;
+        }
+
+        String expected = ACCOUNT_ID_PATTERN.matcher(id).matches()
+                ? environment.getProperty("korea.investment.accounts." + id + ".api-token") : null;
+        if (expected == null || expected.isEmpty() || apiToken == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), apiToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new AccountAccessDeniedException(id);
+        }
+    }
+
+    public AccountContext getDefault() {
+        return get(DEFAULT_ACCOUNT_ID);
+    }
+
+    /**
+     * Registers a callback that receives the id of every account evicted for being idle, so that
+     * state kept elsewhere per account can be dropped along with its context.
+     */
+    public void addEvictionListener(Consumer<String> listener) {
+        evictionListeners.add(listener);
+    }
+
+    public int getActiveAccountCount() {
+        return accounts.size();
+    }
+
+    private AccountContext createContext(String accountId) {
+        AccountCredentials credentials = loadCredentials(accountId);
+        if (credentials == null) {
+            throw new UnknownAccountException(accountId);
+        }
+        logger.info("Activating account context {}", accountId);
+        return new AccountContext(credentials, requestsPerSecond, maxPermitWaitMillis, balanceCacheTtlMillis);
+    }
+
+    private AccountCredentials loadCredentials(String accountId) {
+        String prefix = "korea.investment.accounts." + accountId + ".";
+        String appKey = environment.getProperty(prefix + "app-key");
+        String appSecret = environment.getProperty(prefix + "app-secret");
+        String accountNumber = environment.getProperty(prefix + "account-number");
+
+        if (appKey == null && DEFAULT_ACCOUNT_ID.equals(accountId)) {
+            appKey = environment.getProperty("korea.investment.app.key");
+            appSecret = environment.getProperty("korea.investment.app.secret");
+            accountNumber = environment.getProperty("korea.investment.account.number");
+        }
+
+        if (appKey == null || appSecret == null || accountNumber == null) {
+            return null;
+        }
+        return new AccountCredentials(accountId, appKey, appSecret, accountNumber);
+    }
+
+    /**
+     * Drops contexts that have been idle longer than the timeout. Runs on the request path but
+     * at most once per sweep interval, and only on the thread that wins the timestamp update.
+     */
+    void evictIdle(long now) {
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_MS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+
+        List<String> evicted = new ArrayList<>();
+        accounts.entrySet().removeIf(entry -> {
+            boolean idle = now - entry.getValue().getLastAccessedAt() >= idleTimeoutMillis;
+            if (idle) {
+                logger.info("Evicting idle account context {}", entry.getKey());
+                evicted.add(entry.getKey());
+            }
+            return idle;
+        });
+        for (String accountId : evicted) {
+            for (Consumer<String> listener : evictionListeners) {
+                listener.accept(accountId);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.app.stock.account;
+
+public class RateLimitExceededException extends RuntimeException {
+    private final String accountId;
+
+    public RateLimitExceededException(String accountId) {
+        super("Rate limit exceeded for account: " + accountId);
+        this.accountId = accountId;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.app.stock.account;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly so that at most {@code permitsPerSecond} are made per second. Callers
+ * reserve their slot under a short lock and wait outside of it. A caller whose slot would be
+ * further away than its timeout reserves nothing and is turned away, so a burst cannot queue
+ * up request threads indefinitely.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be positive: " + permitsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /** Waits for the next slot if it is at most {@code timeout} away; returns {@code false} otherwise. */
+    public boolean tryAcquire(long timeout, TimeUnit unit) {
+        long waitNanos = reserve(System.nanoTime(), unit.toNanos(timeout));
+        if (waitNanos < 0) {
+            return false;
+        }
+        if (waitNanos == 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for rate limit", e);
+        }
+    }
+
+    /** Reserves the next slot and returns how long to wait for it, or -1 if that exceeds {@code maxWaitNanos}. */
+    synchronized long reserve(long nowNanos, long maxWaitNanos) {
+        long slot = Math.max(nextFreeNanos, nowNanos);
+        long waitNanos = slot - nowNanos;
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        nextFreeNanos = slot + intervalNanos;
+        return waitNanos;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.app.stock.account;
+
+public class UnknownAccountException extends IllegalArgumentException {
+    private final String accountId;
+
+    public UnknownAccountException(String accountId) {
+        super("Unknown account: " + accountId);
+        this.accountId = accountId;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+}
@@ -1,25 +1,69 @@
 package com.example.demo.app.stock.controller;
 
+import com.example.demo.app.stock.account.AccountAccessDeniedException;
+import com.example.demo.app.stock.account.AccountRegistry;
+import com.example.demo.app.stock.account.RateLimitExceededException;
+import com.example.demo.app.stock.account.UnknownAccountException;
+import com.example.demo.app.stock.feed.MarketDataSource;
+import com.example.demo.app.stock.history.BarInterval;
+import com.example.demo.app.stock.service.MarketDataFeedService;
+import com.example.demo.app.stock.service.PriceHistoryService;
 import com.example.demo.app.stock.service.StockApiService;
+import com.example.demo.app.web.ResponseCache;
+import com.example.demo.app.web.SerializedResponse;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Stock endpoints. Orders and holdings act on the account named by {@code X-Account-Id}, or the
+ * default account without it; a non-default account also needs its API token in
+ * {@code X-Account-Token}, checked by {@link AccountRegistry#checkAccess}.
+ */
 @RestController
 @RequestMapping("/api/stock")
 public class StockController {
 
     private static final Logger logger = LoggerFactory.getLogger(StockController.class);
 
+    private static final String ACCOUNT_HEADER = "X-Account-Id";
+    private static final String ACCOUNT_TOKEN_HEADER = "X-Account-Token";
+
     @Autowired
     private StockApiService stockApiService;
 
+    @Autowired
+    private PriceHistoryService priceHistoryService;
+
+    @Autowired
+    private MarketDataFeedService marketDataFeedService;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private AccountRegistry accountRegistry;
+
+    @PostConstruct
+    public void init() {
+        // Cached balances must not outlive the account context they were loaded for.
+        accountRegistry.addEvictionListener(accountId -> responseCache.invalidate(myStocksCacheKey(accountId)));
+    }
+
     // Inner class for order request payload
     public static class OrderRequest {
         private String stockCode;
@@ -43,11 +87,20 @@ public class StockController {
     }
 
     @PostMapping("/buy")
-    public ResponseEntity<?> buyStock(@RequestBody OrderRequest orderRequest) {
+    public ResponseEntity<?> buyStock(@RequestHeader(value = ACCOUNT_HEADER, required = false) String accountId,
+                                      @RequestHeader(value = ACCOUNT_TOKEN_HEADER, required = false) String accountToken,
+                                      @RequestBody OrderRequest orderRequest) {
         try {
+            accountRegistry.checkAccess(accountId, accountToken);
             logger.info("Received buy order request: {} shares of {}", orderRequest.getQuantity(), orderRequest.getStockCode());
-            Object response = stockApiService.orderStock(orderRequest.getStockCode(), orderRequest.getQuantity());
+            Object response = stockApiService.orderStock(accountId, orderRequest.getStockCode(), orderRequest.getQuantity());
             return ResponseEntity.ok(response);
+        } catch (UnknownAccountException e) {
+            return unknownAccount(accountId);
+        } catch (AccountAccessDeniedException e) {
+            return accessDenied(e);
+        } catch (RateLimitExceededException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             logger.error("Error processing stock buy order", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -56,11 +109,20 @@ public class StockController {
     }
 
     @PostMapping("/sell")
-    public ResponseEntity<?> sellStock(@RequestBody OrderRequest orderRequest) {
+    public ResponseEntity<?> sellStock(@RequestHeader(value = ACCOUNT_HEADER, required = false) String accountId,
+                                       @RequestHeader(value = ACCOUNT_TOKEN_HEADER, required = false) String accountToken,
+                                       @RequestBody OrderRequest orderRequest) {
         try {
+            accountRegistry.checkAccess(accountId, accountToken);
             logger.info("Received sell order request: {} shares of {}", orderRequest.getQuantity(), orderRequest.getStockCode());
-            Object response = stockApiService.sellStock(orderRequest.getStockCode(), orderRequest.getQuantity());
+            Object response = stockApiService.sellStock(accountId, orderRequest.getStockCode(), orderRequest.getQuantity());
             return ResponseEntity.ok(response);
+        } catch (UnknownAccountException e) {
+            return unknownAccount(accountId);
+        } catch (AccountAccessDeniedException e) {
+            return accessDenied(e);
+        } catch (RateLimitExceededException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             logger.error("Error processing stock sell order", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -69,11 +131,25 @@ public class StockController {
     }
 
     @GetMapping("/my-stocks")
-    public ResponseEntity<Map<String, Object>> getMyStocks() {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(type = "object")))
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match", content = @Content)
+    public ResponseEntity<?> getMyStocks(@RequestHeader(value = ACCOUNT_HEADER, required = false) String accountId,
+                                         @RequestHeader(value = ACCOUNT_TOKEN_HEADER, required = false) String accountToken,
+                                         @RequestHeader HttpHeaders headers) {
         logger.info("========== 보유 주식 조회 API 호출됨 ==========");
         try {
-            Map<String, Object> myStocks = stockApiService.getMyStocks();
-            return ResponseEntity.ok(myStocks);
+            accountRegistry.checkAccess(accountId, accountToken);
+            // The balance itself is cached per account; this only reuses its serialized bytes while it is unchanged.
+            String cacheKey = myStocksCacheKey(AccountRegistry.resolveId(accountId));
+            SerializedResponse myStocks = responseCache.get(cacheKey, 0, () -> stockApiService.getMyStocks(accountId));
+            return ResponseCache.toResponseEntity(myStocks, headers, CacheControl.noCache().cachePrivate(), ACCOUNT_HEADER);
+        } catch (UnknownAccountException e) {
+            return unknownAccount(accountId);
+        } catch (AccountAccessDeniedException e) {
+            return accessDenied(e);
+        } catch (RateLimitExceededException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             logger.error("Error fetching my stocks", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -81,6 +157,29 @@ public class StockController {
         }
     }
 
+    private static String myStocksCacheKey(String resolvedAccountId) {
+        return "my-stocks:" + resolvedAccountId;
+    }
+
+    private ResponseEntity<Map<String, Object>> unknownAccount(String accountId) {
+        logger.warn("Request for unknown account: {}", accountId);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Collections.singletonMap("error", "등록되지 않은 계좌입니다: " + accountId));
+    }
+
+    private ResponseEntity<Map<String, Object>> accessDenied(AccountAccessDeniedException e) {
+        logger.warn("Access denied to account: {}", e.getAccountId());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Collections.singletonMap("error", "해당 계좌에 대한 권한이 없습니다."));
+    }
+
+    private ResponseEntity<Map<String, Object>> tooManyRequests(RateLimitExceededException e) {
+        logger.warn("Rate limit exceeded for account: {}", e.getAccountId());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Collections.singletonMap("error", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
     @GetMapping("/details/{stockCode}")
     public ResponseEntity<Map<String, Object>> getStockDetails(@PathVariable String stockCode) {
         try {
@@ -90,10 +189,71 @@ public class StockController {
                         .body(Collections.singletonMap("error", "해당 종목 정보를 찾을 수 없습니다."));
             }
             return ResponseEntity.ok(stockDetails);
+        } catch (RateLimitExceededException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             logger.error("Error fetching stock details for code: {}", stockCode, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Collections.singletonMap("error", "주식 상세 정보를 가져오는 중 오류가 발생했습니다."));
         }
     }
+
+    @GetMapping("/history/{stockCode}")
+    public ResponseEntity<Map<String, Object>> getPriceHistory(@PathVariable String stockCode,
+                                                               @RequestParam(defaultValue = "1m") String interval,
+                                                               @RequestParam(defaultValue = "0") long from,
+                                                               @RequestParam(defaultValue = "120") int limit) {
+        BarInterval barInterval;
+        try {
+            barInterval = BarInterval.fromCode(interval);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Collections.singletonMap("error", "지원하지 않는 봉 단위입니다: " + interval));
+        }
+
+        Map<String, Object> history = priceHistoryService.getBars(stockCode, barInterval, from, Math.max(0, limit));
+        if (history == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("error", "해당 종목의 가격 이력이 없습니다."));
+        }
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/feed/subscriptions")
+    public ResponseEntity<Map<String, Object>> getFeedSubscriptions() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("running", marketDataFeedService.isRunning());
+        result.put("subscriptions", marketDataFeedService.getSubscriptions());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/feed/subscriptions/{stockCode}")
+    public ResponseEntity<Map<String, Object>> subscribeFeed(@PathVariable String stockCode) {
+        if (!MarketDataSource.isValidStockCode(stockCode)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Collections.singletonMap("error", "올바르지 않은 종목 코드입니다: " + stockCode));
+        }
+        if (!marketDataFeedService.isRunning()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Collections.singletonMap("error", "실시간 시세 피드가 꺼져 있습니다."));
+        }
+
+        logger.info("Subscribing real-time feed for {}", stockCode);
+        if (!marketDataFeedService.subscribe(stockCode)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(Collections.singletonMap("error", "실시간 구독 한도(" + MarketDataSource.MAX_SUBSCRIPTIONS + "종목)를 초과했습니다."));
+        }
+        return getFeedSubscriptions();
+    }
+
+    @DeleteMapping("/feed/subscriptions/{stockCode}")
+    public ResponseEntity<Map<String, Object>> unsubscribeFeed(@PathVariable String stockCode) {
+        if (!MarketDataSource.isValidStockCode(stockCode)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Collections.singletonMap("error", "올바르지 않은 종목 코드입니다: " + stockCode));
+        }
+        logger.info("Unsubscribing real-time feed for {}", stockCode);
+        marketDataFeedService.unsubscribe(stockCode);
+        return getFeedSubscriptions();
+    }
 }
@@ -1,13 +1,32 @@
 package com.example.demo.app.stock.controller;
 
+import com.example.demo.app.stock.account.RateLimitExceededException;
+import com.example.demo.app.stock.dto.IndicatorSnapshot;
+import com.example.demo.app.stock.indicator.Indicator;
+import com.example.demo.app.stock.service.IndicatorEngine;
 import com.example.demo.app.stock.service.StockApiService;
+import com.example.demo.app.web.ResponseCache;
+import com.example.demo.app.web.SerializedResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/stock-recommendation")
@@ -16,8 +35,49 @@ public class StockRecommendationController {
     @Autowired
     private StockApiService stockApiService;
 
+    @Autowired
+    private IndicatorEngine indicatorEngine;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${response-cache.top-traded-ttl-ms:3000}")
+    private long topTradedTtlMillis;
+
     @GetMapping("/top-traded")
-    public ResponseEntity<Map<String, Object>> getTopTradedStocks() {
-        return ResponseEntity.ok(stockApiService.getTopTradedStocks());
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(type = "object")))
+    @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match", content = @Content)
+    public ResponseEntity<?> getTopTradedStocks(@RequestHeader HttpHeaders headers) {
+        SerializedResponse topTraded;
+        try {
+            topTraded = responseCache.get("top-traded", topTradedTtlMillis, stockApiService::getTopTradedStocks);
+        } catch (RateLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Collections.singletonMap("error", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."));
+        }
+        return ResponseCache.toResponseEntity(topTraded, headers,
+                CacheControl.maxAge(topTradedTtlMillis, TimeUnit.MILLISECONDS).cachePublic());
+    }
+
+    @GetMapping("/top-momentum")
+    public ResponseEntity<List<IndicatorSnapshot>> getTopMomentumStocks(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(indicatorEngine.top(Indicator.MOMENTUM, limit));
+    }
+
+    @GetMapping("/unusual-volume")
+    public ResponseEntity<List<IndicatorSnapshot>> getUnusualVolumeStocks(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(indicatorEngine.top(Indicator.VOLUME_ZSCORE, limit));
+    }
+
+    @GetMapping("/indicators/{stockCode}")
+    public ResponseEntity<?> getIndicators(@PathVariable String stockCode) {
+        IndicatorSnapshot snapshot = indicatorEngine.getSnapshot(stockCode);
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("error", "해당 종목의 지표 정보가 없습니다."));
+        }
+        return ResponseEntity.ok(snapshot);
     }
 }
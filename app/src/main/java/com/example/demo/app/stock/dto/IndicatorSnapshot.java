@@ -0,0 +1,87 @@
+package com.example.demo.app.stock.dto;
+
+public class IndicatorSnapshot {
+    private String code;
+    private long timestamp;
+    private long ticks;
+    private Double price;
+    private Double ema;
+    private Double vwap;
+    private Double rsi;
+    private Double volumeZScore;
+    private Double momentum;
+
+    // getters and setters
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public void setTicks(long ticks) {
+        this.ticks = ticks;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    public Double getEma() {
+        return ema;
+    }
+
+    public void setEma(Double ema) {
+        this.ema = ema;
+    }
+
+    public Double getVwap() {
+        return vwap;
+    }
+
+    public void setVwap(Double vwap) {
+        this.vwap = vwap;
+    }
+
+    public Double getRsi() {
+        return rsi;
+    }
+
+    public void setRsi(Double rsi) {
+        this.rsi = rsi;
+    }
+
+    public Double getVolumeZScore() {
+        return volumeZScore;
+    }
+
+    public void setVolumeZScore(Double volumeZScore) {
+        this.volumeZScore = volumeZScore;
+    }
+
+    public Double getMomentum() {
+        return momentum;
+    }
+
+    public void setMomentum(Double momentum) {
+        this.momentum = momentum;
+    }
+}
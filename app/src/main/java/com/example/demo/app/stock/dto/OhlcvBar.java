@@ -0,0 +1,43 @@
+package com.example.demo.app.stock.dto;
+
+public class OhlcvBar {
+    private final long startTime;
+    private final double open;
+    private final double high;
+    private final double low;
+    private final double close;
+    private final long volume;
+
+    public OhlcvBar(long startTime, double open, double high, double low, double close, long volume) {
+        this.startTime = startTime;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public double getOpen() {
+        return open;
+    }
+
+    public double getHigh() {
+        return high;
+    }
+
+    public double getLow() {
+        return low;
+    }
+
+    public double getClose() {
+        return close;
+    }
+
+    public long getVolume() {
+        return volume;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.demo.app.stock.feed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a single WebSocket session to the broker's real-time endpoint, (re)subscribes the
+ * requested stock codes and hands every data frame to the {@link FrameHandler}. The session is
+ * re-established with exponential backoff when it drops. Optionally every received frame is
+ * appended to a file in the format read by {@link ReplayMarketDataSource}.
+ */
+public class KisWebSocketSource implements MarketDataSource, WebSocket.Listener {
+
+    private static final Logger logger = LoggerFactory.getLogger(KisWebSocketSource.class);
+
+    private static final long INITIAL_RECONNECT_DELAY_MS = 1_000L;
+    private static final long MAX_RECONNECT_DELAY_MS = 60_000L;
+
+    private final URI uri;
+    private final Supplier<String> approvalKeySupplier;
+    private final Path recordFile;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kis-websocket-reconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final StringBuilder partial = new StringBuilder();
+
+    private volatile FrameHandler handler;
+    private volatile WebSocket webSocket;
+    private volatile String approvalKey;
+    private volatile boolean closed;
+    private long reconnectDelay = INITIAL_RECONNECT_DELAY_MS;
+    private CompletableFuture<?> sendChain = CompletableFuture.completedFuture(null);
+    private volatile Writer recorder;
+
+    public KisWebSocketSource(URI uri, Supplier<String> approvalKeySupplier, Path recordFile) {
+        this.uri = uri;
+        this.approvalKeySupplier = approvalKeySupplier;
+        this.recordFile = recordFile;
+    }
+
+    @Override
+    public void start(FrameHandler handler) {
+        this.handler = handler;
+        if (recordFile != null) {
+            try {
+                recorder = Files.newBufferedWriter(recordFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                logger.error("Cannot open tick record file {}, recording disabled", recordFile, e);
+            }
+        }
+        connect();
+    }
+
+    private void connect() {
+        if (closed) {
+            return;
+        }
+
+        try {
+            approvalKey = approvalKeySupplier.get();
+        } catch (RuntimeException e) {
+            logger.error("Failed to obtain WebSocket approval key", e);
+            scheduleReconnect();
+            return;
+        }
+
+        logger.info("Connecting to real-time feed {}", uri);
+        httpClient.newWebSocketBuilder().buildAsync(uri, this).whenComplete((ws, error) -> {
+            if (error != null) {
+                logger.error("Failed to connect to real-time feed {}", uri, error);
+                scheduleReconnect();
+                return;
+            }
+            webSocket = ws;
+            synchronized (this) {
+                reconnectDelay = INITIAL_RECONNECT_DELAY_MS;
+            }
+            for (String stockCode : subscriptions) {
+                sendSubscription(ws, stockCode, true);
+            }
+        });
+    }
+
+    private synchronized void scheduleReconnect() {
+        webSocket = null;
+        if (closed) {
+            return;
+        }
+        long delay = reconnectDelay;
+        reconnectDelay = Math.min(MAX_RECONNECT_DELAY_MS, reconnectDelay * 2);
+        logger.info("Reconnecting to real-time feed in {} ms", delay);
+        scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized boolean subscribe(String stockCode) {
+        if (!MarketDataSource.isValidStockCode(stockCode)) {
+            throw new IllegalArgumentException("Invalid stock code: " + stockCode);
+        }
+        if (subscriptions.contains(stockCode)) {
+            return true;
+        }
+        if (subscriptions.size() >= MAX_SUBSCRIPTIONS) {
+            logger.warn("Real-time subscription limit ({}) reached, ignoring {}", MAX_SUBSCRIPTIONS, stockCode);
+            return false;
+        }
+        subscriptions.add(stockCode);
+        WebSocket ws = webSocket;
+        if (ws != null) {
+            sendSubscription(ws, stockCode, true);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void unsubscribe(String stockCode) {
+        WebSocket ws = webSocket;
+        if (subscriptions.remove(stockCode) && ws != null) {
+            sendSubscription(ws, stockCode, false);
+        }
+    }
+
+    @Override
+    public Set<String> getSubscriptions() {
+        return Collections.unmodifiableSet(new TreeSet<>(subscriptions));
+    }
+
+    // Stock codes are validated on subscribe, so they need no JSON escaping here.
+    private void sendSubscription(WebSocket ws, String stockCode, boolean subscribe) {
+        String message = "{\"header\":{\"approval_key\":\"" + approvalKey + "\",\"custtype\":\"P\",\"tr_type\":\""
+                + (subscribe ? "1" : "2") + "\",\"content-type\":\"utf-8\"},\"body\":{\"input\":{\"tr_id\":\""
+                + TickFrameParser.EXECUTION_TR_ID + "\",\"tr_key\":\"" + stockCode + "\"}}}";
+        send(ws, message);
+    }
+
+    private synchronized void send(WebSocket ws, String message) {
+        // A WebSocket accepts only one outstanding send, so sends are chained.
+        sendChain = sendChain
+                .handle((result, error) -> null)
+                .thenCompose(ignored -> ws.sendText(message, true))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        logger.warn("Failed to send message on real-time feed", error);
+                    }
+                });
+    }
+
+    @Override
+    public void onOpen(WebSocket ws) {
+        logger.info("Real-time feed connected");
+        ws.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+        if (!last) {
+            partial.append(data);
+        } else if (partial.length() == 0) {
+            onFrame(ws, data);
+        } else {
+            partial.append(data);
+            onFrame(ws, partial);
+            partial.setLength(0);
+        }
+        ws.request(1);
+        return null;
+    }
+
+    private void onFrame(WebSocket ws, CharSequence frame) {
+        if (frame.length() > 0 && frame.charAt(0) == '{') {
+            String message = frame.toString();
+            if (message.contains("PINGPONG")) {
+                send(ws, message);
+            } else {
+                logger.info("Real-time feed control message: {}", message);
+            }
+            return;
+        }
+
+        long receivedAt = System.currentTimeMillis();
+        record(frame, receivedAt);
+        FrameHandler current = handler;
+        if (current != null) {
+            current.onFrame(frame, receivedAt);
+        }
+    }
+
+    private void record(CharSequence frame, long receivedAt) {
+        Writer writer = recorder;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.append(Long.toString(receivedAt)).append('\t').append(frame).append('\n');
+        } catch (IOException e) {
+            logger.error("Failed to record tick frame, recording disabled", e);
+            recorder = null;
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+        logger.warn("Real-time feed closed: {} {}", statusCode, reason);
+        partial.setLength(0);
+        scheduleReconnect();
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket ws, Throwable error) {
+        logger.error("Real-time feed error", error);
+        partial.setLength(0);
+        scheduleReconnect();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        WebSocket ws = webSocket;
+        if (ws != null) {
+            ws.sendClose(WebSocket.NORMAL_CLOSURE, "");
+        }
+        Writer writer = recorder;
+        recorder = null;
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close tick record file", e);
+            }
+        }
+    }
+}
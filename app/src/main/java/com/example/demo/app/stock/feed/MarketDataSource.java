@@ -0,0 +1,39 @@
+package com.example.demo.app.stock.feed;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Source of raw real-time frames. The broker's WebSocket is one implementation; a replay of
+ * recorded frames stands in for it when testing or benchmarking offline.
+ */
+public interface MarketDataSource {
+    /** The broker allows at most this many real-time registrations per session. */
+    int MAX_SUBSCRIPTIONS = 41;
+
+    Pattern STOCK_CODE = Pattern.compile("[0-9A-Z]{6}");
+
+    void start(FrameHandler handler);
+
+    /**
+     * Subscribes to a stock code that passed {@link #isValidStockCode}. Returns {@code true} if the
+     * code is now subscribed, {@code false} if the source is at its subscription limit.
+     */
+    boolean subscribe(String stockCode);
+
+    void unsubscribe(String stockCode);
+
+    Set<String> getSubscriptions();
+
+    void close();
+
+    /** KRX short codes are six characters: digits, or digits and capital letters for newer listings. */
+    static boolean isValidStockCode(String stockCode) {
+        return stockCode != null && STOCK_CODE.matcher(stockCode).matches();
+    }
+
+    interface FrameHandler {
+        /** Called with each complete frame; the frame may be reused after the call returns. */
+        void onFrame(CharSequence frame, long receivedAt);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.demo.app.stock.feed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for the broker's feed that plays back a recorded file.
+ * <p>
+ * Each line is {@code <receivedAtMillis>\t<frame>} as written by {@link KisWebSocketSource}, or
+ * just a frame, which is then stamped with the current time. With a positive {@code speed} the
+ * original spacing between frames is kept (scaled by the speed); with {@code 0} frames are
+ * played as fast as the consumers allow, which is what benchmarks want. Every recorded stock
+ * code is replayed, regardless of subscriptions; subscriptions are only bookkept, with the same
+ * limit as the broker, so the service behaves as it would against the live feed.
+ * <p>
+ * When looping, every pass after the first is shifted forward by whole days past the previous
+ * pass, so each pass looks like the next trading day: timestamps keep increasing and the reset
+ * of the cumulative volume lines up with a day boundary. A file without frames is played once;
+ * looping it would only re-read an empty file.
+ */
+public class ReplayMarketDataSource implements MarketDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayMarketDataSource.class);
+
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final Path file;
+    private final double speed;
+    private final boolean loop;
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+    private Thread thread;
+
+    public ReplayMarketDataSource(Path file, double speed, boolean loop) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("Replay speed must not be negative: " + speed);
+        }
+        this.file = file;
+        this.speed = speed;
+        this.loop = loop;
+    }
+
+    @Override
+    public synchronized void start(FrameHandler handler) {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(() -> run(handler), "tick-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run(FrameHandler handler) {
+        try {
+            long shiftMillis = 0;
+            do {
+                long spanMillis = replayOnce(handler, shiftMillis);
+                if (spanMillis < 0) {
+                    if (loop) {
+                        logger.warn("Tick file {} has no frames; not looping", file);
+                    }
+                    break;
+                }
+                shiftMillis += (spanMillis / DAY_MILLIS + 1) * DAY_MILLIS;
+            } while (loop && !closed);
+        } catch (IOException e) {
+            logger.error("Failed to replay tick file {}", file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Plays the file once, adding {@code shiftMillis} to every recorded timestamp. Returns the
+     * time between the first and last recorded frame, or -1 when no frame was played.
+     */
+    private long replayOnce(FrameHandler handler, long shiftMillis) throws IOException, InterruptedException {
+        long frames = 0;
+        long startedAt = System.nanoTime();
+        long firstRecordedAt = -1;
+        long lastRecordedAt = -1;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while (!closed && (line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                int tab = line.indexOf('\t');
+                long recordedAt = tab > 0 ? TickFrameParser.parseLong(line, 0, tab) : Long.MIN_VALUE;
+                CharSequence frame = line;
+                long receivedAt;
+                if (recordedAt == Long.MIN_VALUE) {
+                    receivedAt = System.currentTimeMillis();
+                } else {
+                    frame = line.subSequence(tab + 1, line.length());
+                    receivedAt = recordedAt + shiftMillis;
+                    if (firstRecordedAt < 0) {
+                        firstRecordedAt = recordedAt;
+                    }
+                    lastRecordedAt = recordedAt;
+                    pace(startedAt, recordedAt - firstRecordedAt);
+                }
+
+                handler.onFrame(frame, receivedAt);
+                ++frames;
+            }
+        }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        logger.info("Replayed {} frames from {} in {} ms ({} frames/s)", frames, file, elapsedMillis,
+                frames * 1000 / elapsedMillis);
+        if (frames == 0) {
+            return -1;
+        }
+        return Math.max(0, lastRecordedAt - firstRecordedAt);
+    }
+
+    private void pace(long startedAt, long offsetMillis) throws InterruptedException {
+        if (speed == 0) {
+            return;
+        }
+        long dueNanos = startedAt + (long) (TimeUnit.MILLISECONDS.toNanos(offsetMillis) / speed);
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    @Override
+    public synchronized boolean subscribe(String stockCode) {
+        if (!MarketDataSource.isValidStockCode(stockCode)) {
+            throw new IllegalArgumentException("Invalid stock code: " + stockCode);
+        }
+        if (subscriptions.contains(stockCode)) {
+            return true;
+        }
+        if (subscriptions.size() >= MAX_SUBSCRIPTIONS) {
+            return false;
+        }
+        return subscriptions.add(stockCode);
+    }
+
+    @Override
+    public synchronized void unsubscribe(String stockCode) {
+        subscriptions.remove(stockCode);
+    }
+
+    @Override
+    public Set<String> getSubscriptions() {
+        return Collections.unmodifiableSet(new TreeSet<>(subscriptions));
+    }
+
+    synchronized boolean isReplaying() {
+        return thread != null && thread.isAlive();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
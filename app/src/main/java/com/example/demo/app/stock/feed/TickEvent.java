@@ -0,0 +1,12 @@
+package com.example.demo.app.stock.feed;
+
+/**
+ * Pre-allocated slot of the {@link TickEventBus} ring. Instances are reused, so listeners must
+ * copy any value they want to keep.
+ */
+class TickEvent {
+    String stockCode;
+    long timestamp;
+    double price;
+    long cumulativeVolume;
+}
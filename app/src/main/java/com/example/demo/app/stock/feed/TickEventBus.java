@@ -0,0 +1,260 @@
+package com.example.demo.app.stock.feed;
+
+import com.example.demo.app.stock.service.TickListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process, Disruptor-style event bus for ticks.
+ * <p>
+ * Events live in a pre-allocated ring whose size is a power of two. Producers claim a sequence
+ * with a single atomic increment, fill the slot and mark it published; nothing is allocated per
+ * tick. Every subscriber runs on its own thread with its own sequence, sees every tick in the
+ * order it was claimed and consumes published ticks in batches. An idle subscriber spins briefly
+ * and then parks until a producer wakes it, so a quiet bus costs no CPU.
+ * <p>
+ * A producer that would overwrite a slot the slowest subscriber has not read yet waits for it,
+ * but only up to a bounded time: producers include request threads, so when subscribers fall
+ * that far behind the tick is dropped and counted instead. A subscriber whose listener throws
+ * an {@link Error} stops and no longer holds producers back.
+ * <p>
+ * The bus is started once and cannot be restarted after {@link #close()}.
+ */
+public class TickEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(TickEventBus.class);
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int SPIN_TRIES = 100;
+    private static final long CAPACITY_PARK_NANOS = 1_000L;
+    private static final long DEFAULT_MAX_PUBLISH_WAIT_NANOS = 100_000_000L;
+
+    private final TickEvent[] ring;
+    private final long[] available;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final Subscriber[] subscribers;
+    private final long maxPublishWaitNanos;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long cachedMinimumSequence = -1;
+    private volatile boolean running;
+    private boolean started;
+
+    public TickEventBus(int capacity, List<? extends TickListener> listeners) {
+        this(capacity, DEFAULT_MAX_PUBLISH_WAIT_NANOS, listeners);
+    }
+
+    public TickEventBus(int capacity, long maxPublishWaitNanos, List<? extends TickListener> listeners) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+
+        ring = new TickEvent[capacity];
+        available = new long[capacity];
+        for (int i = 0; i < capacity; ++i) {
+            ring[i] = new TickEvent();
+            available[i] = -1;
+        }
+        mask = capacity - 1;
+        this.maxPublishWaitNanos = maxPublishWaitNanos;
+
+        subscribers = new Subscriber[listeners.size()];
+        for (int i = 0; i < subscribers.length; ++i) {
+            subscribers[i] = new Subscriber(listeners.get(i));
+        }
+    }
+
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        running = true;
+        for (Subscriber subscriber : subscribers) {
+            subscriber.thread.start();
+        }
+    }
+
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Subscriber subscriber : subscribers) {
+            LockSupport.unpark(subscriber.thread);
+            try {
+                subscriber.thread.join(1_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes a tick to every subscriber. Returns {@code false} when the tick was dropped, either
+     * because the bus is not running or because the ring stayed full for the maximum wait.
+     */
+    public boolean publish(String stockCode, long timestamp, double price, long cumulativeVolume) {
+        if (!running) {
+            return false;
+        }
+
+        long sequence = claim();
+        if (sequence < 0) {
+            long count = dropped.incrementAndGet();
+            if (Long.bitCount(count) == 1) {
+                logger.warn("Tick bus full for {} ms; dropped {} ticks so far",
+                        TimeUnit.NANOSECONDS.toMillis(maxPublishWaitNanos), count);
+            }
+            return false;
+        }
+
+        int index = (int) sequence & mask;
+        TickEvent event = ring[index];
+        event.stockCode = stockCode;
+        event.timestamp = timestamp;
+        event.price = price;
+        event.cumulativeVolume = cumulativeVolume;
+        // Volatile rather than release: paired with the volatile waiting flag, a subscriber that
+        // parks after missing this write is always seen here and woken.
+        AVAILABLE.setVolatile(available, index, sequence);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.waiting) {
+                LockSupport.unpark(subscriber.thread);
+            }
+        }
+        return true;
+    }
+
+    public long getPublishedSequence() {
+        return claimed.get();
+    }
+
+    /** Number of ticks dropped because the ring stayed full for longer than the maximum wait. */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Claims the next sequence once its slot is free, or returns -1 after the maximum wait. A
+     * sequence is only claimed when it can be published, so a dropped tick leaves no gap.
+     */
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            long wrapPoint = next - ring.length;
+            if (wrapPoint > cachedMinimumSequence && subscribers.length > 0) {
+                long minimum = minimumSequence();
+                cachedMinimumSequence = minimum;
+                if (wrapPoint > minimum && running) {
+                    long now = System.nanoTime();
+                    if (deadline == 0) {
+                        deadline = now + maxPublishWaitNanos;
+                    } else if (now - deadline >= 0) {
+                        return -1;
+                    }
+                    LockSupport.parkNanos(CAPACITY_PARK_NANOS);
+                    continue;
+                }
+                // When the bus has stopped nobody will drain the ring; overwrite instead of hanging.
+            }
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Subscriber subscriber : subscribers) {
+            minimum = Math.min(minimum, subscriber.sequence);
+        }
+        return minimum;
+    }
+
+    private boolean isAvailable(long sequence) {
+        return (long) AVAILABLE.getAcquire(available, (int) sequence & mask) == sequence;
+    }
+
+    private class Subscriber implements Runnable {
+        private final TickListener listener;
+        private final Thread thread;
+        private volatile long sequence = -1;
+        private volatile boolean waiting;
+
+        Subscriber(TickListener listener) {
+            this.listener = listener;
+            this.thread = new Thread(this, "tick-bus-" + listener.getClass().getSimpleName());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } catch (Throwable e) {
+                logger.error("Tick listener {} stopped; its ticks are no longer delivered",
+                        listener.getClass().getSimpleName(), e);
+            } finally {
+                // A stopped subscriber must not hold producers back.
+                sequence = Long.MAX_VALUE;
+            }
+        }
+
+        private void consume() {
+            long next = sequence + 1;
+            int idle = 0;
+            while (running || next <= claimed.get()) {
+                if (!isAvailable(next)) {
+                    if (!running) {
+                        break;
+                    }
+                    if (++idle < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else {
+                        awaitPublished(next);
+                    }
+                    continue;
+                }
+
+                idle = 0;
+                long last = next;
+                while (isAvailable(last + 1)) {
+                    ++last;
+                }
+                for (long it = next; it <= last; ++it) {
+                    dispatch(ring[(int) it & mask]);
+                }
+                sequence = last;
+                next = last + 1;
+            }
+        }
+
+        private void awaitPublished(long next) {
+            waiting = true;
+            if (running && (long) AVAILABLE.getVolatile(available, (int) next & mask) != next) {
+                LockSupport.park(this);
+            }
+            waiting = false;
+        }
+
+        private void dispatch(TickEvent event) {
+            try {
+                listener.onTick(event.stockCode, event.timestamp, event.price, event.cumulativeVolume);
+            } catch (RuntimeException e) {
+                logger.error("Tick listener {} failed for stock {}", listener.getClass().getSimpleName(),
+                        event.stockCode, e);
+            }
+        }
+    }
+}
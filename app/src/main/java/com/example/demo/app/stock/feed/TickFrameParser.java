@@ -0,0 +1,204 @@
+package com.example.demo.app.stock.feed;
+
+import com.example.demo.app.stock.service.TickListener;
+
+/**
+ * Parses the broker's real-time execution frames ({@code H0STCNT0}) without allocating.
+ * <p>
+ * A data frame looks like {@code 0|H0STCNT0|002|005930^093354^71900^...^005930^093355^...}:
+ * encryption flag, TR id, record count, then the records' fields separated by {@code ^}.
+ * Fields are read straight from the frame; stock codes are resolved against a table of
+ * previously seen codes, so a {@code String} is only created the first time a code appears.
+ */
+public class TickFrameParser {
+    public static final String EXECUTION_TR_ID = "H0STCNT0";
+
+    static final int FIELDS_PER_RECORD = 46;
+    static final int CODE_FIELD = 0;
+    static final int PRICE_FIELD = 2;
+    static final int CUMULATIVE_VOLUME_FIELD = 13;
+
+    private volatile String[] codes = new String[64];
+
+    /**
+     * Parses one frame and passes each record to {@code sink}. Returns the number of ticks
+     * delivered, or {@code -1} when the frame is not a plain-text execution frame (for example
+     * a JSON control message or an encrypted payload).
+     */
+    public int parse(CharSequence frame, long receivedAt, TickListener sink) {
+        int length = frame.length();
+        if (length < 2 || frame.charAt(0) != '0' || frame.charAt(1) != '|') {
+            return -1;
+        }
+
+        int trIdStart = 2;
+        int trIdEnd = indexOf(frame, '|', trIdStart, length);
+        if (trIdEnd < 0 || !regionEquals(frame, trIdStart, trIdEnd, EXECUTION_TR_ID)) {
+            return -1;
+        }
+
+        int countEnd = indexOf(frame, '|', trIdEnd + 1, length);
+        if (countEnd < 0) {
+            return -1;
+        }
+        long records = parseLong(frame, trIdEnd + 1, countEnd);
+        if (records <= 0) {
+            return -1;
+        }
+
+        int delivered = 0;
+        int field = 0;
+        int fieldStart = countEnd + 1;
+        String code = null;
+        double price = Double.NaN;
+        long cumulativeVolume = -1;
+        while (fieldStart <= length && delivered < records) {
+            int fieldEnd = indexOf(frame, '^', fieldStart, length);
+            if (fieldEnd < 0) {
+                fieldEnd = length;
+            }
+
+            switch (field) {
+                case CODE_FIELD:
+                    code = resolveCode(frame, fieldStart, fieldEnd);
+                    break;
+                case PRICE_FIELD:
+                    long value = parseLong(frame, fieldStart, fieldEnd);
+                    price = value == Long.MIN_VALUE ? Double.NaN : value;
+                    break;
+                case CUMULATIVE_VOLUME_FIELD:
+                    cumulativeVolume = parseLong(frame, fieldStart, fieldEnd);
+                    if (cumulativeVolume == Long.MIN_VALUE) {
+                        cumulativeVolume = -1;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (field == CUMULATIVE_VOLUME_FIELD && code != null && !Double.isNaN(price)) {
+                sink.onTick(code, receivedAt, price, cumulativeVolume);
+                ++delivered;
+            }
+
+            if (++field == FIELDS_PER_RECORD) {
+                field = 0;
+                code = null;
+                price = Double.NaN;
+                cumulativeVolume = -1;
+            }
+            fieldStart = fieldEnd + 1;
+        }
+
+        return delivered;
+    }
+
+    private String resolveCode(CharSequence frame, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+
+        int hash = 0;
+        for (int i = start; i < end; ++i) {
+            hash = 31 * hash + frame.charAt(i);
+        }
+
+        String[] table = codes;
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != null; slot = (slot + 1) & mask) {
+            if (regionEquals(frame, start, end, table[slot])) {
+                return table[slot];
+            }
+        }
+        return addCode(frame.subSequence(start, end).toString());
+    }
+
+    private synchronized String addCode(String code) {
+        String[] table = codes;
+        int mask = table.length - 1;
+        int slot = spread(code.hashCode()) & mask;
+        for (; table[slot] != null; slot = (slot + 1) & mask) {
+            if (table[slot].equals(code)) {
+                return table[slot];
+            }
+        }
+
+        // Copy on write keeps lookups lock-free; the table is rebuilt at most once per new code.
+        int size = 1;
+        for (String existing : table) {
+            if (existing != null) {
+                ++size;
+            }
+        }
+        String[] grown = new String[size * 2 > table.length ? table.length * 2 : table.length];
+        int grownMask = grown.length - 1;
+        for (String existing : table) {
+            if (existing != null) {
+                insert(grown, grownMask, existing);
+            }
+        }
+        insert(grown, grownMask, code);
+        codes = grown;
+        return code;
+    }
+
+    private static void insert(String[] table, int mask, String code) {
+        int slot = spread(code.hashCode()) & mask;
+        while (table[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = code;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /** Parses a signed decimal, returning {@link Long#MIN_VALUE} when the field is not a number. */
+    static long parseLong(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return Long.MIN_VALUE;
+        }
+
+        boolean negative = false;
+        int it = start;
+        char first = text.charAt(it);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++it == end) {
+                return Long.MIN_VALUE;
+            }
+        }
+
+        long result = 0;
+        for (; it < end; ++it) {
+            int digit = text.charAt(it) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    private static int indexOf(CharSequence text, char c, int from, int to) {
+        for (int it = from; it < to; ++it) {
+            if (text.charAt(it) == c) {
+                return it;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); ++i) {
+            if (text.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.app.stock.history;
+
+public enum BarInterval {
+    SECOND_1("1s", 1_000L),
+    MINUTE_1("1m", 60_000L),
+    MINUTE_5("5m", 300_000L);
+
+    private final String code;
+    private final long millis;
+
+    BarInterval(String code, long millis) {
+        this.code = code;
+        this.millis = millis;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public long bucketStart(long timestamp) {
+        return timestamp - Math.floorMod(timestamp, millis);
+    }
+
+    public static BarInterval fromCode(String code) {
+        for (BarInterval interval : values()) {
+            if (interval.code.equalsIgnoreCase(code)) {
+                return interval;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported bar interval: " + code);
+    }
+}
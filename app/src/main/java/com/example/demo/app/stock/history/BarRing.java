@@ -0,0 +1,86 @@
+package com.example.demo.app.stock.history;
+
+import com.example.demo.app.stock.dto.OhlcvBar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity ring of OHLCV bars for one interval, updated in place as ticks arrive.
+ * Not thread-safe; {@link SymbolHistory} guards access.
+ */
+class BarRing {
+    /** Heap bytes per bar slot: start time, open, high, low, close and volume, eight bytes each. */
+    static final int BYTES_PER_BAR = 6 * Long.BYTES;
+
+    private final BarInterval interval;
+    private final long[] startTimes;
+    private final double[] opens;
+    private final double[] highs;
+    private final double[] lows;
+    private final double[] closes;
+    private final long[] volumes;
+    private int last = -1;
+    private int count;
+
+    BarRing(BarInterval interval, int capacity) {
+        this.interval = interval;
+        startTimes = new long[capacity];
+        opens = new double[capacity];
+        highs = new double[capacity];
+        lows = new double[capacity];
+        closes = new double[capacity];
+        volumes = new long[capacity];
+    }
+
+    void update(long timestamp, double price, long volume) {
+        long bucket = interval.bucketStart(timestamp);
+
+        if (count > 0 && bucket == startTimes[last]) {
+            if (price > highs[last]) {
+                highs[last] = price;
+            }
+            if (price < lows[last]) {
+                lows[last] = price;
+            }
+            closes[last] = price;
+            volumes[last] += volume;
+            return;
+        }
+
+        if (count > 0 && bucket < startTimes[last]) {
+            // Late tick for a bar that is already closed; bars are append-only.
+            return;
+        }
+
+        last = (last + 1) % startTimes.length;
+        startTimes[last] = bucket;
+        opens[last] = price;
+        highs[last] = price;
+        lows[last] = price;
+        closes[last] = price;
+        volumes[last] = volume;
+        if (count < startTimes.length) {
+            ++count;
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    /** Returns up to {@code limit} most recent bars starting at or after {@code from}, oldest first. */
+    List<OhlcvBar> copyRecent(long from, int limit) {
+        int available = Math.min(count, limit);
+        List<OhlcvBar> result = new ArrayList<>(available);
+        int capacity = startTimes.length;
+        for (int i = available - 1; i >= 0; --i) {
+            int index = (last - i + capacity) % capacity;
+            if (startTimes[index] >= from) {
+                result.add(new OhlcvBar(startTimes[index], opens[index], highs[index], lows[index],
+                        closes[index], volumes[index]));
+            }
+        }
+        return result;
+    }
+}
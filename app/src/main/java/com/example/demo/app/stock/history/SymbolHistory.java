@@ -0,0 +1,98 @@
+package com.example.demo.app.stock.history;
+
+import com.example.demo.app.stock.dto.OhlcvBar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Price history of a single symbol: the most recent raw ticks plus rolling bars for every
+ * {@link BarInterval}. All storage is allocated up front, so recording a tick does not allocate;
+ * {@link #estimateBytes} gives that fixed footprint.
+ */
+public class SymbolHistory {
+    private final TickRing ticks;
+    private final BarRing[] bars;
+    private long lastCumulativeVolume = -1;
+
+    public SymbolHistory(int tickCapacity, int barCapacity) {
+        this(tickCapacity, uniform(barCapacity));
+    }
+
+    /** Creates a history keeping {@code barCapacities[interval.ordinal()]} bars per interval. */
+    public SymbolHistory(int tickCapacity, int[] barCapacities) {
+        BarInterval[] intervals = BarInterval.values();
+        if (barCapacities.length != intervals.length) {
+            throw new IllegalArgumentException("Expected one bar capacity per interval: " + intervals.length);
+        }
+        ticks = new TickRing(tickCapacity);
+        bars = new BarRing[intervals.length];
+        for (BarInterval interval : intervals) {
+            bars[interval.ordinal()] = new BarRing(interval, barCapacities[interval.ordinal()]);
+        }
+    }
+
+    /** Heap bytes taken by the rings of one history with the given capacities, excluding object headers. */
+    public static long estimateBytes(int tickCapacity, int[] barCapacities) {
+        long bytes = (long) tickCapacity * TickRing.BYTES_PER_TICK;
+        for (int capacity : barCapacities) {
+            bytes += (long) capacity * BarRing.BYTES_PER_BAR;
+        }
+        return bytes;
+    }
+
+    private static int[] uniform(int barCapacity) {
+        int[] capacities = new int[BarInterval.values().length];
+        Arrays.fill(capacities, barCapacity);
+        return capacities;
+    }
+
+    /**
+     * Records a quote. The broker reports volume as the running total for the day, so the
+     * traded volume of this tick is the difference to the previous quote.
+     */
+    public synchronized void record(long timestamp, double price, long cumulativeVolume) {
+        long volume;
+        if (lastCumulativeVolume < 0 || cumulativeVolume < 0) {
+            volume = 0;
+        } else if (cumulativeVolume < lastCumulativeVolume) {
+            // New trading day: the running total was reset.
+            volume = cumulativeVolume;
+        } else {
+            volume = cumulativeVolume - lastCumulativeVolume;
+        }
+        if (cumulativeVolume >= 0) {
+            lastCumulativeVolume = cumulativeVolume;
+        }
+
+        ticks.append(timestamp, price, volume);
+        for (BarRing ring : bars) {
+            ring.update(timestamp, price, volume);
+        }
+    }
+
+    public synchronized List<OhlcvBar> getBars(BarInterval interval, long from, int limit) {
+        return bars[interval.ordinal()].copyRecent(from, limit);
+    }
+
+    public synchronized int getTickCount() {
+        return ticks.size();
+    }
+
+    /** Timestamp of the newest recorded tick, or {@link Long#MIN_VALUE} before the first one. */
+    public synchronized long getLastTimestamp() {
+        return ticks.size() == 0 ? Long.MIN_VALUE : ticks.lastTimestamp();
+    }
+
+    public synchronized Map<String, Object> getLastQuote() {
+        if (ticks.size() == 0) {
+            return null;
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("timestamp", ticks.lastTimestamp());
+        result.put("price", ticks.lastPrice());
+        return result;
+    }
+}
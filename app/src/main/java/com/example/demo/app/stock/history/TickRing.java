@@ -0,0 +1,50 @@
+package com.example.demo.app.stock.history;
+
+/**
+ * Fixed-capacity ring of raw ticks kept in parallel primitive arrays.
+ * Not thread-safe; {@link SymbolHistory} guards access.
+ */
+class TickRing {
+    /** Heap bytes per tick slot: one long timestamp, one double price and one long volume. */
+    static final int BYTES_PER_TICK = 3 * Long.BYTES;
+
+    private final long[] timestamps;
+    private final double[] prices;
+    private final long[] volumes;
+    private int next;
+    private int count;
+
+    TickRing(int capacity) {
+        timestamps = new long[capacity];
+        prices = new double[capacity];
+        volumes = new long[capacity];
+    }
+
+    void append(long timestamp, double price, long volume) {
+        timestamps[next] = timestamp;
+        prices[next] = price;
+        volumes[next] = volume;
+        next = (next + 1) % timestamps.length;
+        if (count < timestamps.length) {
+            ++count;
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    double lastPrice() {
+        return prices[index(count - 1)];
+    }
+
+    long lastTimestamp() {
+        return timestamps[index(count - 1)];
+    }
+
+    /** Position 0 is the oldest retained tick. */
+    private int index(int position) {
+        int capacity = timestamps.length;
+        return (next - count + position + capacity) % capacity;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.app.stock.indicator;
+
+public enum Indicator {
+    EMA,
+    VWAP,
+    RSI,
+    VOLUME_ZSCORE,
+    MOMENTUM
+}
@@ -0,0 +1,170 @@
+package com.example.demo.app.stock.indicator;
+
+import com.example.demo.app.stock.dto.IndicatorSnapshot;
+
+/**
+ * Running indicators for one symbol. Every value is maintained incrementally, so a tick costs
+ * O(1) regardless of how much history has been seen, and no per-tick allocation happens.
+ */
+public class SymbolIndicators {
+    private final String stockCode;
+    private final double emaAlpha;
+    private final int rsiPeriod;
+    private final double volumeAlpha;
+    private final double[] momentumWindow;
+
+    private long ticks;
+    private long lastTimestamp;
+    private double lastPrice = Double.NaN;
+    private long lastCumulativeVolume = -1;
+
+    private double ema = Double.NaN;
+
+    private double priceVolumeSum;
+    private long volumeSum;
+
+    private int rsiSamples;
+    private double averageGain;
+    private double averageLoss;
+
+    private long volumeSamples;
+    private double volumeMean;
+    private double volumeVariance;
+    private double lastVolumeZScore = Double.NaN;
+
+    private int momentumNext;
+
+    public SymbolIndicators(String stockCode, int emaPeriod, int rsiPeriod, int momentumPeriod, int volumePeriod) {
+        this.stockCode = stockCode;
+        this.emaAlpha = 2.0 / (emaPeriod + 1);
+        this.rsiPeriod = rsiPeriod;
+        this.volumeAlpha = 2.0 / (volumePeriod + 1);
+        this.momentumWindow = new double[momentumPeriod + 1];
+    }
+
+    public synchronized void update(long timestamp, double price, long cumulativeVolume) {
+        long volume = tickVolume(cumulativeVolume);
+
+        ema = Double.isNaN(ema) ? price : ema + emaAlpha * (price - ema);
+
+        if (volume > 0) {
+            priceVolumeSum += price * volume;
+            volumeSum += volume;
+        }
+
+        if (!Double.isNaN(lastPrice)) {
+            updateRsi(price - lastPrice);
+        }
+
+        if (volume >= 0) {
+            updateVolumeStatistics(volume);
+        }
+
+        momentumWindow[momentumNext] = price;
+        momentumNext = (momentumNext + 1) % momentumWindow.length;
+
+        lastPrice = price;
+        lastTimestamp = timestamp;
+        ++ticks;
+    }
+
+    /** Returns the volume traded since the previous quote, or -1 if it cannot be derived. */
+    private long tickVolume(long cumulativeVolume) {
+        long volume;
+        if (cumulativeVolume < 0 || lastCumulativeVolume < 0) {
+            volume = -1;
+        } else if (cumulativeVolume < lastCumulativeVolume) {
+            // New trading day: the running total was reset, and so is the session VWAP.
+            volume = cumulativeVolume;
+            priceVolumeSum = 0;
+            volumeSum = 0;
+        } else {
+            volume = cumulativeVolume - lastCumulativeVolume;
+        }
+        if (cumulativeVolume >= 0) {
+            lastCumulativeVolume = cumulativeVolume;
+        }
+        return volume;
+    }
+
+    private void updateRsi(double change) {
+        double gain = change > 0 ? change : 0;
+        double loss = change < 0 ? -change : 0;
+
+        if (rsiSamples < rsiPeriod) {
+            // Seed with a simple average of the first period, then switch to Wilder smoothing.
+            ++rsiSamples;
+            averageGain += (gain - averageGain) / rsiSamples;
+            averageLoss += (loss - averageLoss) / rsiSamples;
+        } else {
+            averageGain = (averageGain * (rsiPeriod - 1) + gain) / rsiPeriod;
+            averageLoss = (averageLoss * (rsiPeriod - 1) + loss) / rsiPeriod;
+        }
+    }
+
+    private void updateVolumeStatistics(long volume) {
+        double deviation = volume - volumeMean;
+        double standardDeviation = Math.sqrt(volumeVariance);
+        lastVolumeZScore = volumeSamples >= 2 && standardDeviation > 0 ? deviation / standardDeviation : Double.NaN;
+
+        if (volumeSamples == 0) {
+            volumeMean = volume;
+        } else {
+            double increment = volumeAlpha * deviation;
+            volumeMean += increment;
+            volumeVariance = (1 - volumeAlpha) * (volumeVariance + deviation * increment);
+        }
+        ++volumeSamples;
+    }
+
+    public synchronized double value(Indicator indicator) {
+        switch (indicator) {
+            case EMA:
+                return ema;
+            case VWAP:
+                return volumeSum > 0 ? priceVolumeSum / volumeSum : Double.NaN;
+            case RSI:
+                if (rsiSamples < rsiPeriod) {
+                    return Double.NaN;
+                }
+                return averageLoss == 0 ? 100 : 100 - 100 / (1 + averageGain / averageLoss);
+            case VOLUME_ZSCORE:
+                return lastVolumeZScore;
+            case MOMENTUM:
+                if (ticks < momentumWindow.length) {
+                    return Double.NaN;
+                }
+                // The slot about to be overwritten holds the price from momentumPeriod ticks ago.
+                double past = momentumWindow[momentumNext];
+                return past == 0 ? Double.NaN : lastPrice / past - 1;
+            default:
+                throw new IllegalArgumentException("Unknown indicator: " + indicator);
+        }
+    }
+
+    public synchronized IndicatorSnapshot snapshot() {
+        IndicatorSnapshot snapshot = new IndicatorSnapshot();
+        snapshot.setCode(stockCode);
+        snapshot.setTimestamp(lastTimestamp);
+        snapshot.setTicks(ticks);
+        snapshot.setPrice(orNull(lastPrice));
+        snapshot.setEma(orNull(value(Indicator.EMA)));
+        snapshot.setVwap(orNull(value(Indicator.VWAP)));
+        snapshot.setRsi(orNull(value(Indicator.RSI)));
+        snapshot.setVolumeZScore(orNull(value(Indicator.VOLUME_ZSCORE)));
+        snapshot.setMomentum(orNull(value(Indicator.MOMENTUM)));
+        return snapshot;
+    }
+
+    private static Double orNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    public synchronized long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public String getStockCode() {
+        return stockCode;
+    }
+}
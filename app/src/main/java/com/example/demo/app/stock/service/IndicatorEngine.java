@@ -0,0 +1,173 @@
+package com.example.demo.app.stock.service;
+
+import com.example.demo.app.stock.dto.IndicatorSnapshot;
+import com.example.demo.app.stock.indicator.Indicator;
+import com.example.demo.app.stock.indicator.SymbolIndicators;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class IndicatorEngine implements TickListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndicatorEngine.class);
+
+    @Value("${stock.indicator.ema-period:20}")
+    private int emaPeriod;
+
+    @Value("${stock.indicator.rsi-period:14}")
+    private int rsiPeriod;
+
+    @Value("${stock.indicator.momentum-period:10}")
+    private int momentumPeriod;
+
+    @Value("${stock.indicator.volume-period:30}")
+    private int volumePeriod;
+
+    @Value("${stock.indicator.max-symbols:5000}")
+    private int maxSymbols;
+
+    @Value("${stock.indicator.stale-after-ms:300000}")
+    private long staleAfterMillis;
+
+    private final Map<String, SymbolIndicators> indicators = new ConcurrentHashMap<>();
+
+    // Newest tick time seen for any symbol. Staleness is measured against it rather than the wall
+    // clock, so a replayed session ranks the same way it did live.
+    private final AtomicLong latestTimestamp = new AtomicLong();
+    private boolean reportedFull;
+
+    @Override
+    public void onTick(String stockCode, long timestamp, double price, long cumulativeVolume) {
+        SymbolIndicators symbol = indicators.get(stockCode);
+        if (symbol == null) {
+            admit(stockCode, timestamp, price, cumulativeVolume);
+        } else {
+            symbol.update(timestamp, price, cumulativeVolume);
+        }
+        if (timestamp > latestTimestamp.get()) {
+            latestTimestamp.accumulateAndGet(timestamp, Math::max);
+        }
+    }
+
+    /**
+     * Starts tracking a new symbol. When the cap is reached, symbols that went stale are dropped
+     * first (they are already left out of rankings); if none did, the one with the oldest tick
+     * makes room. The first tick is applied before the symbol is visible, so it is never the one
+     * evicted.
+     */
+    private synchronized void admit(String stockCode, long timestamp, double price, long cumulativeVolume) {
+        SymbolIndicators symbol = indicators.get(stockCode);
+        if (symbol == null) {
+            if (indicators.size() >= maxSymbols) {
+                if (!reportedFull) {
+                    reportedFull = true;
+                    logger.info("Indicator engine reached {} symbols; evicting stale and least recently updated",
+                            maxSymbols);
+                }
+                long oldest = Math.max(latestTimestamp.get(), timestamp) - staleAfterMillis;
+                indicators.values().removeIf(tracked -> tracked.getLastTimestamp() < oldest);
+                while (indicators.size() >= maxSymbols) {
+                    if (!evictLeastRecentlyUpdated()) {
+                        return;
+                    }
+                }
+            }
+            symbol = new SymbolIndicators(stockCode, emaPeriod, rsiPeriod, momentumPeriod, volumePeriod);
+            symbol.update(timestamp, price, cumulativeVolume);
+            indicators.put(stockCode, symbol);
+            return;
+        }
+        symbol.update(timestamp, price, cumulativeVolume);
+    }
+
+    private boolean evictLeastRecentlyUpdated() {
+        SymbolIndicators oldest = null;
+        long oldestTimestamp = Long.MAX_VALUE;
+        for (SymbolIndicators symbol : indicators.values()) {
+            long lastTimestamp = symbol.getLastTimestamp();
+            if (oldest == null || lastTimestamp < oldestTimestamp) {
+                oldest = symbol;
+                oldestTimestamp = lastTimestamp;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+        indicators.remove(oldest.getStockCode());
+        return true;
+    }
+
+    public int getSymbolCount() {
+        return indicators.size();
+    }
+
+    public IndicatorSnapshot getSnapshot(String stockCode) {
+        SymbolIndicators symbol = indicators.get(stockCode);
+        return symbol == null ? null : symbol.snapshot();
+    }
+
+    /**
+     * Returns the {@code limit} symbols with the highest value of the given indicator, best first.
+     * Symbols whose indicator is not warmed up yet are skipped, as are symbols whose last tick is
+     * more than {@code stock.indicator.stale-after-ms} older than the newest tick of any symbol:
+     * their values only change when they tick, so a symbol that stopped trading would otherwise
+     * keep its last rank. Uses a bounded min-heap, so the cost is O(n log limit) over the tracked
+     * symbols instead of sorting all of them.
+     */
+    public List<IndicatorSnapshot> top(Indicator indicator, int limit) {
+        return top(indicator, limit, staleAfterMillis);
+    }
+
+    public List<IndicatorSnapshot> top(Indicator indicator, int limit, long staleAfterMillis) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        int capacity = Math.min(limit, Math.max(1, indicators.size()));
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(capacity, Comparator.comparingDouble((Ranked ranked) -> ranked.score));
+        long oldest = latestTimestamp.get() - staleAfterMillis;
+        for (SymbolIndicators symbol : indicators.values()) {
+            if (symbol.getLastTimestamp() < oldest) {
+                continue;
+            }
+            double score = symbol.value(indicator);
+            if (Double.isNaN(score)) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(new Ranked(symbol, score));
+            } else if (score > heap.peek().score) {
+                heap.poll();
+                heap.add(new Ranked(symbol, score));
+            }
+        }
+
+        List<IndicatorSnapshot> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().symbol.snapshot());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static class Ranked {
+        final SymbolIndicators symbol;
+        final double score;
+
+        Ranked(SymbolIndicators symbol, double score) {
+            this.symbol = symbol;
+            this.score = score;
+        }
+    }
+}
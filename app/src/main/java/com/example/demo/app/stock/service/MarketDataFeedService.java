@@ -0,0 +1,138 @@
+package com.example.demo.app.stock.service;
+
+import com.example.demo.app.stock.feed.KisWebSocketSource;
+import com.example.demo.app.stock.feed.MarketDataSource;
+import com.example.demo.app.stock.feed.ReplayMarketDataSource;
+import com.example.demo.app.stock.feed.TickEventBus;
+import com.example.demo.app.stock.feed.TickFrameParser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Feeds real-time ticks into the {@link TickEventBus}. The source is chosen by
+ * {@code stock.feed.mode}: {@code websocket} for the broker's feed, {@code replay} to play back a
+ * recorded file, or {@code off} (the default) to rely on REST quotes only.
+ */
+@Service
+public class MarketDataFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketDataFeedService.class);
+
+    @Value("${stock.feed.mode:off}")
+    private String mode;
+
+    @Value("${stock.feed.websocket-url:ws://ops.koreainvestment.com:31000}")
+    private String websocketUrl;
+
+    @Value("${stock.feed.record-file:}")
+    private String recordFile;
+
+    @Value("${stock.feed.replay-file:}")
+    private String replayFile;
+
+    @Value("${stock.feed.replay-speed:1.0}")
+    private double replaySpeed;
+
+    @Value("${stock.feed.replay-loop:false}")
+    private boolean replayLoop;
+
+    @Value("${stock.feed.symbols:}")
+    private String initialSymbols;
+
+    @Autowired
+    private TickEventBus tickEventBus;
+
+    @Autowired
+    private StockApiService stockApiService;
+
+    private final TickFrameParser parser = new TickFrameParser();
+    private final TickListener publisher = (stockCode, timestamp, price, cumulativeVolume) ->
+            tickEventBus.publish(stockCode, timestamp, price, cumulativeVolume);
+    private MarketDataSource source;
+
+    @PostConstruct
+    public void start() {
+        source = createSource();
+        if (source == null) {
+            logger.info("Real-time market data feed is off (stock.feed.mode={})", mode);
+            return;
+        }
+
+        source.start(this::onFrame);
+        for (String stockCode : initialSymbols.split(",")) {
+            if (stockCode.isBlank()) {
+                continue;
+            }
+            if (!MarketDataSource.isValidStockCode(stockCode.trim())) {
+                logger.warn("Ignoring invalid stock code in stock.feed.symbols: {}", stockCode);
+            } else if (!subscribe(stockCode.trim())) {
+                logger.warn("Could not subscribe {}: subscription limit reached", stockCode.trim());
+            }
+        }
+    }
+
+    private MarketDataSource createSource() {
+        switch (mode.trim().toLowerCase()) {
+            case "websocket":
+                Path record = recordFile.isBlank() ? null : Path.of(recordFile);
+                return new KisWebSocketSource(URI.create(websocketUrl), stockApiService::issueApprovalKey, record);
+            case "replay":
+                if (replayFile.isBlank()) {
+                    throw new IllegalStateException("stock.feed.replay-file is required when stock.feed.mode=replay");
+                }
+                return new ReplayMarketDataSource(Path.of(replayFile), replaySpeed, replayLoop);
+            case "off":
+                return null;
+            default:
+                throw new IllegalStateException("Unknown stock.feed.mode: " + mode);
+        }
+    }
+
+    private void onFrame(CharSequence frame, long receivedAt) {
+        if (parser.parse(frame, receivedAt, publisher) < 0 && logger.isDebugEnabled()) {
+            logger.debug("Ignored real-time frame: {}", frame);
+        }
+    }
+
+    public boolean isRunning() {
+        return source != null;
+    }
+
+    /**
+     * Subscribes a stock code on the running feed. Returns {@code false} if the feed is off or at
+     * its subscription limit; throws {@link IllegalArgumentException} for a malformed code.
+     */
+    public boolean subscribe(String stockCode) {
+        if (!MarketDataSource.isValidStockCode(stockCode)) {
+            throw new IllegalArgumentException("Invalid stock code: " + stockCode);
+        }
+        return source != null && source.subscribe(stockCode);
+    }
+
+    public void unsubscribe(String stockCode) {
+        if (source != null) {
+            source.unsubscribe(stockCode);
+        }
+    }
+
+    public Set<String> getSubscriptions() {
+        return source == null ? Collections.emptySet() : source.getSubscriptions();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (source != null) {
+            source.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.app.stock.service;
+
+import com.example.demo.app.stock.dto.OhlcvBar;
+import com.example.demo.app.stock.history.BarInterval;
+import com.example.demo.app.stock.history.SymbolHistory;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class PriceHistoryService implements TickListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceHistoryService.class);
+
+    // Defaults keep every tracked symbol at about 84 KB: 1024 ticks (24 KB), ten minutes of 1s
+    // bars, one 390-minute trading session of 1m bars and a day of 5m bars (60 KB together).
+    // With 1000 symbols that caps price history at roughly 82 MB of heap. Once the cap is reached
+    // the symbol with the oldest last tick makes room for a new one.
+    @Value("${stock.history.ticks-per-symbol:1024}")
+    private int ticksPerSymbol;
+
+    @Value("${stock.history.bars-1s:600}")
+    private int secondBars;
+
+    @Value("${stock.history.bars-1m:390}")
+    private int minuteBars;
+
+    @Value("${stock.history.bars-5m:288}")
+    private int fiveMinuteBars;
+
+    @Value("${stock.history.max-symbols:1000}")
+    private int maxSymbols;
+
+    private int[] barCapacities;
+
+    private final Map<String, SymbolHistory> histories = new ConcurrentHashMap<>();
+    private boolean reportedFull;
+
+    @PostConstruct
+    public void init() {
+        barCapacities = new int[BarInterval.values().length];
+        barCapacities[BarInterval.SECOND_1.ordinal()] = secondBars;
+        barCapacities[BarInterval.MINUTE_1.ordinal()] = minuteBars;
+        barCapacities[BarInterval.MINUTE_5.ordinal()] = fiveMinuteBars;
+
+        long perSymbol = SymbolHistory.estimateBytes(ticksPerSymbol, barCapacities);
+        logger.info("Price history: {} KB per symbol, up to {} symbols ({} MB)",
+                perSymbol / 1024, maxSymbols, perSymbol * maxSymbols / (1024 * 1024));
+    }
+
+    @Override
+    public void onTick(String stockCode, long timestamp, double price, long cumulativeVolume) {
+        record(stockCode, timestamp, price, cumulativeVolume);
+    }
+
+    public void record(String stockCode, long timestamp, double price, long cumulativeVolume) {
+        SymbolHistory history = histories.get(stockCode);
+        if (history == null) {
+            admit(stockCode, timestamp, price, cumulativeVolume);
+            return;
+        }
+        history.record(timestamp, price, cumulativeVolume);
+    }
+
+    /**
+     * Adds a history for a new symbol, evicting the least recently updated one when the cap is
+     * reached. Synchronized so that concurrent new symbols cannot push the map past the cap; the
+     * first quote is recorded before the history is visible, so it is never the one evicted.
+     */
+    private synchronized void admit(String stockCode, long timestamp, double price, long cumulativeVolume) {
+        SymbolHistory history = histories.get(stockCode);
+        if (history == null) {
+            if (histories.size() >= maxSymbols && !reportedFull) {
+                reportedFull = true;
+                logger.info("Price history reached {} symbols; evicting the least recently updated", maxSymbols);
+            }
+            while (histories.size() >= maxSymbols) {
+                if (!evictLeastRecentlyUpdated()) {
+                    return;
+                }
+            }
+            history = new SymbolHistory(ticksPerSymbol, barCapacities);
+            history.record(timestamp, price, cumulativeVolume);
+            histories.put(stockCode, history);
+            return;
+        }
+        history.record(timestamp, price, cumulativeVolume);
+    }
+
+    private boolean evictLeastRecentlyUpdated() {
+        String oldestCode = null;
+        long oldestTimestamp = Long.MAX_VALUE;
+        for (Map.Entry<String, SymbolHistory> entry : histories.entrySet()) {
+            long lastTimestamp = entry.getValue().getLastTimestamp();
+            if (oldestCode == null || lastTimestamp < oldestTimestamp) {
+                oldestCode = entry.getKey();
+                oldestTimestamp = lastTimestamp;
+            }
+        }
+        if (oldestCode == null) {
+            return false;
+        }
+        histories.remove(oldestCode);
+        logger.debug("Evicted price history for {}", oldestCode);
+        return true;
+    }
+
+    public int getSymbolCount() {
+        return histories.size();
+    }
+
+    public Map<String, Object> getBars(String stockCode, BarInterval interval, long from, int limit) {
+        SymbolHistory history = histories.get(stockCode);
+        if (history == null) {
+            return null;
+        }
+
+        List<OhlcvBar> bars = history.getBars(interval, from, limit);
+        Map<String, Object> result = new HashMap<>();
+        result.put("code", stockCode);
+        result.put("interval", interval.getCode());
+        result.put("bars", bars);
+        result.put("lastQuote", history.getLastQuote());
+        return result;
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.demo.app.stock.service;
 
+import com.example.demo.app.stock.account.AccountContext;
+import com.example.demo.app.stock.account.AccountCredentials;
+import com.example.demo.app.stock.account.AccountRegistry;
 import com.example.demo.app.stock.dto.StockOrderResponse;
 import com.example.demo.app.stock.dto.TokenResponse;
+import com.example.demo.app.stock.feed.TickEventBus;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -27,35 +31,24 @@ public class StockApiService {
 
     private static final Logger logger = LoggerFactory.getLogger(StockApiService.class);
 
-    @Value("${korea.investment.app.key}")
-    private String appKey;
+    @Autowired
+    private AccountRegistry accountRegistry;
 
-    @Value("${korea.investment.app.secret}")
-    private String appSecret;
-
-    @Value("${korea.investment.account.number}")
-    private String accountNumber;
-
-    private String accessToken;
-    private int expiresIn;
-    private long tokenIssuedAt;
+    @Autowired
+    private TickEventBus tickEventBus;
 
     private static final String KOREA_INVESTMENT_API_DOMAIN = "https://openapivts.koreainvestment.com:29443";
 
-    private String[] getAccountParts() {
-        return accountNumber.split("-");
-    }
-
-    private void issueToken() {
-        logger.info("Issuing new access token...");
+    private TokenResponse issueToken(AccountCredentials credentials) {
+        logger.info("Issuing new access token for account {}...", credentials.getAccountId());
         String url = KOREA_INVESTMENT_API_DOMAIN + "/oauth2/tokenP";
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         Map<String, String> body = new HashMap<>();
         body.put("grant_type", "client_credentials");
-        body.put("appkey", appKey);
-        body.put("appsecret", appSecret);
+        body.put("appkey", credentials.getAppKey());
+        body.put("appsecret", credentials.getAppSecret());
 
         HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
         RestTemplate restTemplate = new RestTemplate();
@@ -65,35 +58,52 @@ public class StockApiService {
             throw new RuntimeException("Failed to issue access token");
         }
 
-        this.accessToken = tokenResponse.getAccess_token();
-        this.expiresIn = tokenResponse.getExpires_in();
-        this.tokenIssuedAt = System.currentTimeMillis();
-        logger.info("Access token issued successfully.");
+        logger.info("Access token issued successfully for account {}.", credentials.getAccountId());
+        return tokenResponse;
     }
 
-    private boolean isTokenExpired() {
-        if (accessToken == null) {
-            return true;
-        }
-        long buffer = 60 * 1000; // 60 seconds buffer
-        return (System.currentTimeMillis() - tokenIssuedAt) >= (expiresIn * 1000 - buffer);
+    private HttpHeaders authorizedHeaders(AccountContext account) {
+        AccountCredentials credentials = account.getCredentials();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Bearer " + account.getValidAccessToken(this::issueToken));
+        headers.set("appkey", credentials.getAppKey());
+        headers.set("appsecret", credentials.getAppSecret());
+        return headers;
     }
 
-    private synchronized String getValidAccessToken() {
-        if (isTokenExpired()) {
-            issueToken();
+    public String issueApprovalKey() {
+        logger.info("Issuing real-time WebSocket approval key...");
+        AccountCredentials credentials = accountRegistry.getDefault().getCredentials();
+        String url = KOREA_INVESTMENT_API_DOMAIN + "/oauth2/Approval";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, String> body = new HashMap<>();
+        body.put("grant_type", "client_credentials");
+        body.put("appkey", credentials.getAppKey());
+        body.put("secretkey", credentials.getAppSecret());
+
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
+        RestTemplate restTemplate = new RestTemplate();
+        Map<?, ?> response = restTemplate.postForObject(url, request, Map.class);
+
+        if (response == null || !(response.get("approval_key") instanceof String)) {
+            throw new RuntimeException("Failed to issue approval key");
         }
-        return accessToken;
+
+        logger.info("Approval key issued successfully.");
+        return (String) response.get("approval_key");
     }
 
-    public StockOrderResponse orderStock(String stockCode, int quantity) {
+    public StockOrderResponse orderStock(String accountId, String stockCode, int quantity) {
         String url = KOREA_INVESTMENT_API_DOMAIN + "/uapi/domestic-stock/v1/trading/order-cash";
 
-        String[] account = getAccountParts();
+        AccountContext account = accountRegistry.get(accountId);
+        String[] accountParts = account.getCredentials().getAccountParts();
 
         Map<String, String> bodyMap = new TreeMap<>();
-        bodyMap.put("CANO", account[0]);
-        bodyMap.put("ACNT_PRDT_CD", account[1]);
+        bodyMap.put("CANO", accountParts[0]);
+        bodyMap.put("ACNT_PRDT_CD", accountParts[1]);
         bodyMap.put("PDNO", stockCode);
         bodyMap.put("ORD_DVSN", "01"); // 지정가
         bodyMap.put("ORD_QTY", String.valueOf(quantity));
@@ -108,29 +118,29 @@ public class StockApiService {
             throw new RuntimeException(e);
         }
 
-        HttpHeaders headers = new HttpHeaders();
+        HttpHeaders headers = authorizedHeaders(account);
         headers.setContentType(MediaType.valueOf("application/json; charset=UTF-8"));
-        headers.set("Authorization", "Bearer " + getValidAccessToken());
-        headers.set("appkey", appKey);
-        headers.set("appsecret", appSecret);
         headers.set("tr_id", "VTTC0802U"); // 가상 매수
         headers.set("custtype", "P");
 
         HttpEntity<String> request = new HttpEntity<>(jsonBody, headers);
         RestTemplate restTemplate = new RestTemplate();
+        account.acquirePermit();
         ResponseEntity<StockOrderResponse> response = restTemplate.exchange(url, HttpMethod.POST, request, StockOrderResponse.class);
+        account.invalidateBalance();
         logger.info("Order stock response: {}", response.getBody());
         return response.getBody();
     }
     
-    public StockOrderResponse sellStock(String stockCode, int quantity) {
+    public StockOrderResponse sellStock(String accountId, String stockCode, int quantity) {
         String url = KOREA_INVESTMENT_API_DOMAIN + "/uapi/domestic-stock/v1/trading/order-cash";
     
-        String[] account = getAccountParts();
+        AccountContext account = accountRegistry.get(accountId);
+        String[] accountParts = account.getCredentials().getAccountParts();
     
         Map<String, String> bodyMap = new TreeMap<>();
-        bodyMap.put("CANO", account[0]);
-        bodyMap.put("ACNT_PRDT_CD", account[1]);
+        bodyMap.put("CANO", accountParts[0]);
+        bodyMap.put("ACNT_PRDT_CD", accountParts[1]);
         bodyMap.put("PDNO", stockCode);
         bodyMap.put("ORD_DVSN", "01"); // 지정가 매도
         bodyMap.put("ORD_QTY", String.valueOf(quantity));
@@ -145,36 +155,41 @@ public class StockApiService {
             throw new RuntimeException(e);
         }
     
-        HttpHeaders headers = new HttpHeaders();
+        HttpHeaders headers = authorizedHeaders(account);
         headers.setContentType(MediaType.valueOf("application/json; charset=UTF-8"));
-        headers.set("Authorization", "Bearer " + getValidAccessToken());
-        headers.set("appkey", appKey);
-        headers.set("appsecret", appSecret);
         headers.set("tr_id", "VTTC0801U"); // 가상 매도
         headers.set("custtype", "P");
     
         HttpEntity<String> request = new HttpEntity<>(jsonBody, headers);
         RestTemplate restTemplate = new RestTemplate();
+        account.acquirePermit();
         ResponseEntity<StockOrderResponse> response = restTemplate.exchange(url, HttpMethod.POST, request, StockOrderResponse.class);
+        account.invalidateBalance();
         logger.info("Sell stock response: {}", response.getBody());
         return response.getBody();
     }
 
 
-    public Map<String, Object> getMyStocks() {
-        logger.info("보유 주식 및 계좌 정보 조회 API 호출 시작...");
+    /**
+     * Returns holdings and the account summary. The result is cached per account for a short
+     * time and dropped whenever that account places an order.
+     */
+    public Map<String, Object> getMyStocks(String accountId) {
+        AccountContext account = accountRegistry.get(accountId);
+        return account.getBalance(() -> fetchMyStocks(account));
+    }
+
+    private Map<String, Object> fetchMyStocks(AccountContext account) {
+        logger.info("보유 주식 및 계좌 정보 조회 API 호출 시작... 계좌: {}", account.getAccountId());
         String url = KOREA_INVESTMENT_API_DOMAIN + "/uapi/domestic-stock/v1/trading/inquire-balance";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + getValidAccessToken());
-        headers.set("appkey", appKey);
-        headers.set("appsecret", appSecret);
+        HttpHeaders headers = authorizedHeaders(account);
         headers.set("tr_id", "VTTC8434R");
 
-        String[] account = getAccountParts();
+        String[] accountParts = account.getCredentials().getAccountParts();
         UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-                .queryParam("CANO", account[0])
-                .queryParam("ACNT_PRDT_CD", account[1])
+                .queryParam("CANO", accountParts[0])
+                .queryParam("ACNT_PRDT_CD", accountParts[1])
                 .queryParam("AFHR_FLPR_YN", "N")
                 .queryParam("OFL_YN", "")
                 .queryParam("INQR_DVSN", "01")
@@ -188,6 +203,7 @@ public class StockApiService {
         HttpEntity<?> entity = new HttpEntity<>(headers);
         RestTemplate restTemplate = new RestTemplate();
 
+        account.acquirePermit();
         ResponseEntity<String> response = restTemplate.exchange(
                 builder.toUriString(),
                 HttpMethod.GET,
@@ -218,7 +234,7 @@ public class StockApiService {
                 result.put("accountSummary", output2List.get(0));
             }
         }
-        result.put("accountNumber", accountNumber);
+        result.put("accountNumber", account.getCredentials().getAccountNumber());
 
         logger.info("Processed account info: {}", result);
         return result;
@@ -228,10 +244,8 @@ public class StockApiService {
         logger.info("종목 상세 정보(가격) 조회 API 호출 시작... 종목 코드: {}", stockCode);
         String url = KOREA_INVESTMENT_API_DOMAIN + "/uapi/domestic-stock/v1/quotations/inquire-price";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + getValidAccessToken());
-        headers.set("appkey", appKey);
-        headers.set("appsecret", appSecret);
+        AccountContext account = accountRegistry.getDefault();
+        HttpHeaders headers = authorizedHeaders(account);
         headers.set("tr_id", "FHKST01010100");
 
         UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -241,6 +255,7 @@ public class StockApiService {
         HttpEntity<?> entity = new HttpEntity<>(headers);
         RestTemplate restTemplate = new RestTemplate();
 
+        account.acquirePermit();
         ResponseEntity<String> response = restTemplate.exchange(
                 builder.toUriString(),
                 HttpMethod.GET,
@@ -275,6 +290,7 @@ public class StockApiService {
                 }
                 result.put("price", price);
                 result.put("code", stockCode);
+                recordQuote(stockCode, price, output.get("acml_vol"));
             } else {
                  logger.warn("Unexpected 'output' format for stock code: {}", stockCode);
                  return null;
@@ -287,14 +303,22 @@ public class StockApiService {
         return result;
     }
 
+    private void recordQuote(String stockCode, String price, String accumulatedVolume) {
+        try {
+            double lastPrice = Double.parseDouble(price.trim());
+            long cumulativeVolume = accumulatedVolume == null || accumulatedVolume.isBlank() ? -1 : Long.parseLong(accumulatedVolume.trim());
+            tickEventBus.publish(stockCode, System.currentTimeMillis(), lastPrice, cumulativeVolume);
+        } catch (NumberFormatException e) {
+            logger.warn("Could not record quote for stock {}: price={}, acml_vol={}", stockCode, price, accumulatedVolume);
+        }
+    }
+
     public Map<String, Object> getTopTradedStocks() {
         logger.info("거래량 상위 종목 조회 API 호출 시작...");
         String url = KOREA_INVESTMENT_API_DOMAIN + "/uapi/domestic-stock/v1/quotations/volume-rank";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + getValidAccessToken());
-        headers.set("appkey", appKey);
-        headers.set("appsecret", appSecret);
+        AccountContext account = accountRegistry.getDefault();
+        HttpHeaders headers = authorizedHeaders(account);
         headers.set("tr_id", "VHPST01710000");
 
         UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
@@ -307,6 +331,7 @@ public class StockApiService {
         HttpEntity<?> entity = new HttpEntity<>(headers);
         RestTemplate restTemplate = new RestTemplate();
 
+        account.acquirePermit();
         ResponseEntity<String> response = restTemplate.exchange(
             builder.toUriString(),
             HttpMethod.GET,
@@ -0,0 +1,9 @@
+package com.example.demo.app.stock.service;
+
+/**
+ * Receives every quote observed for a symbol. {@code cumulativeVolume} is the broker's running
+ * traded volume for the day, or {@code -1} when it is unknown.
+ */
+public interface TickListener {
+    void onTick(String stockCode, long timestamp, double price, long cumulativeVolume);
+}
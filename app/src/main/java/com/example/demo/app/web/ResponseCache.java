@@ -0,0 +1,156 @@
+package com.example.demo.app.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the serialized form of read-heavy responses so that unchanged results are not passed
+ * through Jackson and gzip again on every request.
+ * <p>
+ * An entry is reused while it is younger than the caller's TTL. After that the loader runs
+ * again; if it returns the very same object as before (for example a result the service layer
+ * cached itself), the existing bytes are kept as well.
+ * <p>
+ * Loads are single-flight per key: while one request runs the loader, concurrent requests for
+ * the same key wait for its result instead of calling the upstream API themselves. An entry is
+ * never replaced by one whose load started earlier.
+ */
+@Component
+public class ResponseCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> loads = new ConcurrentHashMap<>();
+
+    public SerializedResponse get(String key, long ttlMillis, Supplier<?> loader) {
+        Entry entry = entries.get(key);
+        if (isFresh(entry, ttlMillis)) {
+            return entry.response;
+        }
+
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return await(inFlight).response;
+        }
+
+        try {
+            // Another request may have finished loading between the first lookup and the claim.
+            entry = entries.get(key);
+            Entry loaded = isFresh(entry, ttlMillis) ? entry : load(key, entry, loader);
+            load.complete(loaded);
+            return loaded.response;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private Entry load(String key, Entry previous, Supplier<?> loader) {
+        long startedAt = System.currentTimeMillis();
+        Object value = loader.get();
+
+        Entry loaded;
+        if (previous != null && previous.value == value) {
+            loaded = new Entry(value, previous.response, startedAt);
+        } else {
+            try {
+                loaded = new Entry(value, new SerializedResponse(objectMapper.writeValueAsBytes(value)), startedAt);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize response for " + key, e);
+            }
+        }
+        entries.merge(key, loaded, (current, candidate) -> current.loadedAt > candidate.loadedAt ? current : candidate);
+        return loaded;
+    }
+
+    private static boolean isFresh(Entry entry, long ttlMillis) {
+        return entry != null && System.currentTimeMillis() - entry.loadedAt < ttlMillis;
+    }
+
+    /** Waits for another request's load and rethrows its failure as if the loader had run here. */
+    private static Entry await(CompletableFuture<Entry> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Builds the HTTP response for a cached body: gzip when the client accepts it, a strong ETag
+     * for the chosen representation, and {@code 304 Not Modified} when the client already has it.
+     */
+    public static ResponseEntity<byte[]> toResponseEntity(SerializedResponse response, HttpHeaders requestHeaders,
+                                                          CacheControl cacheControl, String... varyHeaders) {
+        boolean compress = response.shouldCompress(requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING));
+        String etag = compress ? response.getGzipEtag() : response.getEtag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(cacheControl);
+        headers.setVary(varyHeaders(varyHeaders));
+
+        if (SerializedResponse.matches(requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        byte[] body = compress ? response.getGzipBody() : response.getBody();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        if (compress) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private static List<String> varyHeaders(String[] extra) {
+        List<String> vary = new ArrayList<>(extra.length + 1);
+        vary.add(HttpHeaders.ACCEPT_ENCODING);
+        Collections.addAll(vary, extra);
+        return vary;
+    }
+
+    private static class Entry {
+        final Object value;
+        final SerializedResponse response;
+        final long loadedAt;
+
+        Entry(Object value, SerializedResponse response, long loadedAt) {
+            this.value = value;
+            this.response = response;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
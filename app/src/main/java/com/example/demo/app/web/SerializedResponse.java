@@ -0,0 +1,132 @@
+package com.example.demo.app.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body that has already been serialized, together with its strong ETag. The gzip
+ * form is compressed on first request and kept, so serving a cached response, compressed or
+ * not, is a plain copy of bytes. Instances are immutable apart from that lazily filled field
+ * and can be shared between threads.
+ */
+public class SerializedResponse {
+    /** Bodies smaller than this are sent uncompressed; gzip would gain little or even grow them. */
+    static final int MIN_COMPRESSIBLE_BYTES = 1024;
+
+    private static final String GZIP = "gzip";
+
+    private final byte[] body;
+    private final String etag;
+    private volatile byte[] gzipBody;
+
+    public SerializedResponse(byte[] body) {
+        this.body = body;
+        this.etag = "\"" + digest(body) + "\"";
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    /** ETag of the gzip representation. It must differ from the identity one, as the bytes differ. */
+    public String getGzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-" + GZIP + "\"";
+    }
+
+    public byte[] getGzipBody() {
+        byte[] compressed = gzipBody;
+        if (compressed == null) {
+            // Racing threads may both compress; the output is identical, so either result is fine.
+            compressed = gzip(body);
+            gzipBody = compressed;
+        }
+        return compressed;
+    }
+
+    /** Whether the gzip representation should be sent to a client with the given {@code Accept-Encoding}. */
+    public boolean shouldCompress(String acceptEncoding) {
+        return body.length >= MIN_COMPRESSIBLE_BYTES && acceptsGzip(acceptEncoding);
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} allows gzip. An explicit {@code gzip} entry decides on its
+     * own, so {@code gzip;q=0, *} refuses gzip; otherwise a {@code *} entry decides.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                return !isRejected(parts);
+            }
+            if (name.equals("*") && wildcard == null) {
+                wildcard = !isRejected(parts);
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    private static boolean isRejected(String[] parameters) {
+        for (int i = 1; i < parameters.length; ++i) {
+            String parameter = parameters[i].trim();
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter.substring(equals + 1).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Whether an {@code If-None-Match} header matches {@code etag}, i.e. the client copy is current. */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
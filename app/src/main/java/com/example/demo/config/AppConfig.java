@@ -1,9 +1,15 @@
 package com.example.demo.config;
 
+import com.example.demo.app.stock.feed.TickEventBus;
+import com.example.demo.app.stock.service.TickListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class AppConfig {
 
@@ -11,4 +17,11 @@ public class AppConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public TickEventBus tickEventBus(List<TickListener> tickListeners,
+                                     @Value("${stock.feed.bus-capacity:65536}") int capacity,
+                                     @Value("${stock.feed.bus-max-wait-ms:100}") long maxWaitMillis) {
+        return new TickEventBus(capacity, TimeUnit.MILLISECONDS.toNanos(maxWaitMillis), tickListeners);
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.demo.app.stock.account;
+
+import com.example.demo.app.stock.dto.TokenResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountContextTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    private static AccountContext context(String accountId, long balanceCacheTtlMillis) {
+        return new AccountContext(new AccountCredentials(accountId, "key-" + accountId, "secret-" + accountId,
+                "12345678-01"), 2, 0, balanceCacheTtlMillis);
+    }
+
+    private static TokenResponse token(String value) {
+        TokenResponse response = new TokenResponse();
+        response.setAccess_token(value);
+        response.setExpires_in(86_400);
+        return response;
+    }
+
+    @Test void testRateLimiterSpacesReservations() {
+        RateLimiter limiter = new RateLimiter(2);
+        long now = System.nanoTime() + SECOND;
+
+        assertEquals(0, limiter.reserve(now, Long.MAX_VALUE));
+        assertEquals(SECOND / 2, limiter.reserve(now, Long.MAX_VALUE));
+        assertEquals(SECOND, limiter.reserve(now, Long.MAX_VALUE));
+
+        // Idle time does not accumulate into a burst.
+        long later = now + 10 * SECOND;
+        assertEquals(0, limiter.reserve(later, Long.MAX_VALUE));
+        assertEquals(SECOND / 2, limiter.reserve(later, Long.MAX_VALUE));
+    }
+
+    @Test void testRateLimiterTurnsAwayCallersBeyondMaxWait() {
+        RateLimiter limiter = new RateLimiter(2);
+        long now = System.nanoTime() + SECOND;
+
+        assertEquals(0, limiter.reserve(now, SECOND / 2));
+        assertEquals(SECOND / 2, limiter.reserve(now, SECOND / 2));
+        // The next slot is a full second away: rejected, and nothing is reserved.
+        assertEquals(-1, limiter.reserve(now, SECOND / 2));
+        assertEquals(-1, limiter.reserve(now, SECOND / 2));
+        assertEquals(SECOND / 2, limiter.reserve(now + SECOND / 2, SECOND / 2));
+    }
+
+    @Test void testAcquirePermitFailsFastWhenBudgetIsUsed() {
+        AccountContext account = context("busy", 1_000);
+        account.acquirePermit();
+        RateLimitExceededException error = assertThrows(RateLimitExceededException.class, account::acquirePermit);
+        assertEquals("busy", error.getAccountId());
+    }
+
+    @Test void testRateLimiterRejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0));
+    }
+
+    @Test void testTokenIsIssuedOncePerAccount() {
+        AtomicInteger issued = new AtomicInteger();
+        AccountContext first = context("first", 1_000);
+        AccountContext second = context("second", 1_000);
+
+        assertEquals("token-first", first.getValidAccessToken(credentials -> {
+            issued.incrementAndGet();
+            return token("token-" + credentials.getAccountId());
+        }));
+        assertEquals("token-first", first.getValidAccessToken(credentials -> {
+            throw new AssertionError("token should be reused");
+        }));
+        assertEquals("token-second", second.getValidAccessToken(credentials -> {
+            issued.incrementAndGet();
+            return token("token-" + credentials.getAccountId());
+        }));
+        assertEquals(2, issued.get());
+    }
+
+    @Test void testBalanceIsCachedUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        AccountContext account = context("cached", 60_000);
+
+        Map<String, Object> balance = account.getBalance(() -> Collections.singletonMap("load", loads.incrementAndGet()));
+        assertSame(balance, account.getBalance(() -> Collections.singletonMap("load", loads.incrementAndGet())));
+        assertEquals(1, loads.get());
+
+        account.invalidateBalance();
+        assertEquals(2, account.getBalance(() -> Collections.singletonMap("load", loads.incrementAndGet())).get("load"));
+    }
+
+    @Test void testExpiredBalanceIsReloaded() {
+        AtomicInteger loads = new AtomicInteger();
+        AccountContext account = context("uncached", 0);
+
+        account.getBalance(() -> Collections.singletonMap("load", loads.incrementAndGet()));
+        account.getBalance(() -> Collections.singletonMap("load", loads.incrementAndGet()));
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.demo.app.stock.account;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountRegistryTest {
+    private static final long IDLE_TIMEOUT = 1_000L;
+    private static final long SWEEP_INTERVAL = 60_000L;
+
+    private static AccountRegistry registry(MockEnvironment environment, int maxAccounts) {
+        AccountRegistry registry = new AccountRegistry();
+        ReflectionTestUtils.setField(registry, "environment", environment);
+        ReflectionTestUtils.setField(registry, "requestsPerSecond", 2.0);
+        ReflectionTestUtils.setField(registry, "maxPermitWaitMillis", 0L);
+        ReflectionTestUtils.setField(registry, "balanceCacheTtlMillis", 1_000L);
+        ReflectionTestUtils.setField(registry, "idleTimeoutMillis", IDLE_TIMEOUT);
+        ReflectionTestUtils.setField(registry, "maxAccounts", maxAccounts);
+        return registry;
+    }
+
+    private static MockEnvironment environment() {
+        return new MockEnvironment()
+                .withProperty("korea.investment.app.key", "default-key")
+                .withProperty("korea.investment.app.secret", "default-secret")
+                .withProperty("korea.investment.account.number", "11111111-01")
+                .withProperty("korea.investment.accounts.alice.app-key", "alice-key")
+                .withProperty("korea.investment.accounts.alice.app-secret", "alice-secret")
+                .withProperty("korea.investment.accounts.alice.account-number", "22222222-01")
+                .withProperty("korea.investment.accounts.alice.api-token", "alice-token")
+                .withProperty("korea.investment.accounts.bob.app-key", "bob-key")
+                .withProperty("korea.investment.accounts.bob.app-secret", "bob-secret")
+                .withProperty("korea.investment.accounts.bob.account-number", "33333333-01");
+    }
+
+    @Test void testDefaultAccountFallsBackToSingleAccountProperties() {
+        AccountRegistry registry = registry(environment(), 10);
+
+        AccountContext account = registry.get(null);
+        assertEquals(AccountRegistry.DEFAULT_ACCOUNT_ID, account.getAccountId());
+        assertEquals("default-key", account.getCredentials().getAppKey());
+        assertEquals("11111111-01", account.getCredentials().getAccountNumber());
+        assertSame(account, registry.get(" "));
+        assertSame(account, registry.get("default"));
+        assertSame(account, registry.getDefault());
+        assertEquals(1, registry.getActiveAccountCount());
+    }
+
+    @Test void testDefaultAccountPrefersExplicitAccountProperties() {
+        MockEnvironment environment = environment()
+                .withProperty("korea.investment.accounts.default.app-key", "explicit-key")
+                .withProperty("korea.investment.accounts.default.app-secret", "explicit-secret")
+                .withProperty("korea.investment.accounts.default.account-number", "44444444-01");
+
+        assertEquals("explicit-key", registry(environment, 10).getDefault().getCredentials().getAppKey());
+    }
+
+    @Test void testNamedAccountsAreSeparate() {
+        AccountRegistry registry = registry(environment(), 10);
+
+        AccountContext alice = registry.get("alice");
+        AccountContext bob = registry.get(" bob ");
+        assertNotSame(alice, bob);
+        assertEquals("alice-key", alice.getCredentials().getAppKey());
+        assertEquals("33333333-01", bob.getCredentials().getAccountNumber());
+        assertSame(alice, registry.get("alice"));
+        assertEquals(2, registry.getActiveAccountCount());
+    }
+
+    @Test void testUnknownAndInvalidAccountIds() {
+        AccountRegistry registry = registry(environment(), 10);
+
+        UnknownAccountException unknown = assertThrows(UnknownAccountException.class, () -> registry.get("carol"));
+        assertEquals("carol", unknown.getAccountId());
+        assertThrows(UnknownAccountException.class, () -> registry.get("../alice"));
+        assertThrows(UnknownAccountException.class, () -> registry.get("alice.app-key"));
+        assertEquals(0, registry.getActiveAccountCount());
+
+        // No default account configured at all.
+        assertThrows(UnknownAccountException.class, () -> registry(new MockEnvironment(), 10).getDefault());
+    }
+
+    @Test void testMaxAccounts() {
+        AccountRegistry registry = registry(environment(), 2);
+
+        registry.get("alice");
+        registry.get("bob");
+        assertThrows(IllegalStateException.class, registry::getDefault);
+        // Accounts that are already active keep working.
+        assertNotNull(registry.get("alice"));
+    }
+
+    @Test void testIdleAccountsAreEvicted() {
+        AccountRegistry registry = registry(environment(), 10);
+        AccountContext alice = registry.get("alice");
+        registry.get("bob");
+        long now = System.currentTimeMillis();
+
+        // Sweeps run at most once per interval.
+        registry.evictIdle(now + IDLE_TIMEOUT);
+        assertEquals(2, registry.getActiveAccountCount());
+
+        registry.evictIdle(now + SWEEP_INTERVAL + IDLE_TIMEOUT);
+        assertEquals(0, registry.getActiveAccountCount());
+
+        AccountContext recreated = registry.get("alice");
+        assertNotSame(alice, recreated);
+        assertEquals("alice-key", recreated.getCredentials().getAppKey());
+    }
+
+    @Test void testEvictionListenersReceiveEvictedIds() {
+        AccountRegistry registry = registry(environment(), 10);
+        List<String> evicted = new ArrayList<>();
+        registry.addEvictionListener(evicted::add);
+        registry.getDefault();
+
+        registry.evictIdle(System.currentTimeMillis() + SWEEP_INTERVAL + IDLE_TIMEOUT);
+
+        assertEquals(List.of(AccountRegistry.DEFAULT_ACCOUNT_ID), evicted);
+    }
+
+    @Test void testRecentlyUsedAccountsSurviveSweep() {
+        AccountRegistry registry = registry(environment(), 10);
+        registry.get("alice");
+        AccountContext bob = registry.get("bob");
+        long now = System.currentTimeMillis();
+
+        ReflectionTestUtils.setField(registry, "idleTimeoutMillis", SWEEP_INTERVAL + IDLE_TIMEOUT);
+        ReflectionTestUtils.setField(bob, "lastAccessedAt", now + SWEEP_INTERVAL);
+        registry.evictIdle(now + SWEEP_INTERVAL + IDLE_TIMEOUT);
+
+        assertEquals(1, registry.getActiveAccountCount());
+        assertSame(bob, registry.get("bob"));
+    }
+
+    @Test void testCheckAccess() {
+        AccountRegistry registry = registry(environment(), 10);
+
+        registry.checkAccess(null, null);
+        registry.checkAccess("default", "anything");
+        registry.checkAccess("alice", "alice-token");
+        assertThrows(AccountAccessDeniedException.class, () -> registry.checkAccess("alice", null));
+        assertThrows(AccountAccessDeniedException.class, () -> registry.checkAccess("alice", "alice-token2"));
+        // Configured, but without a token: not usable through the API.
+        assertThrows(AccountAccessDeniedException.class, () -> registry.checkAccess("bob", "alice-token"));
+        assertThrows(AccountAccessDeniedException.class, () -> registry.checkAccess("carol", ""));
+        assertThrows(AccountAccessDeniedException.class, () -> registry.checkAccess("alice.api-token", "x"));
+        assertEquals(0, registry.getActiveAccountCount());
+    }
+
+    @Test void testResolveId() {
+        assertEquals("default", AccountRegistry.resolveId(null));
+        assertEquals("default", AccountRegistry.resolveId(""));
+        assertEquals("alice", AccountRegistry.resolveId(" alice "));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.app.stock.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayMarketDataSourceTest {
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    @Test void testLoopShiftsEveryPassToTheNextDay() throws Exception {
+        Path file = Files.createTempFile("ticks", ".txt");
+        try {
+            Files.write(file, List.of("1000\tfirst", "61000\tsecond"));
+
+            List<Long> timestamps = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(6);
+            ReplayMarketDataSource replay = new ReplayMarketDataSource(file, 0, true);
+            try {
+                replay.start((frame, receivedAt) -> {
+                    synchronized (timestamps) {
+                        if (timestamps.size() < 6) {
+                            timestamps.add(receivedAt);
+                        }
+                    }
+                    done.countDown();
+                });
+                assertTrue(done.await(10, TimeUnit.SECONDS));
+            } finally {
+                replay.close();
+            }
+
+            synchronized (timestamps) {
+                assertEquals(List.of(1000L, 61000L, DAY + 1000, DAY + 61000, 2 * DAY + 1000, 2 * DAY + 61000),
+                        timestamps);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test void testLoopStopsOnFileWithoutFrames() throws Exception {
+        Path file = Files.createTempFile("ticks", ".txt");
+        try {
+            Files.write(file, List.of("", ""));
+
+            ReplayMarketDataSource replay = new ReplayMarketDataSource(file, 0, true);
+            try {
+                replay.start((frame, receivedAt) -> fail("no frame expected"));
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (replay.isReplaying() && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertFalse(replay.isReplaying());
+            } finally {
+                replay.close();
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test void testSubscriptionsFollowTheBrokerLimit() {
+        ReplayMarketDataSource replay = new ReplayMarketDataSource(Path.of("unused"), 0, false);
+        for (int i = 0; i < MarketDataSource.MAX_SUBSCRIPTIONS; ++i) {
+            assertTrue(replay.subscribe(String.format("%06d", i)));
+        }
+        assertFalse(replay.subscribe("999999"));
+        assertTrue(replay.subscribe("000000"));
+        assertEquals(MarketDataSource.MAX_SUBSCRIPTIONS, replay.getSubscriptions().size());
+
+        replay.unsubscribe("000000");
+        assertTrue(replay.subscribe("999999"));
+        assertFalse(replay.getSubscriptions().contains("000000"));
+    }
+
+    @Test void testRejectsMalformedStockCodes() {
+        assertTrue(MarketDataSource.isValidStockCode("005930"));
+        assertTrue(MarketDataSource.isValidStockCode("0000J0"));
+        assertFalse(MarketDataSource.isValidStockCode(null));
+        assertFalse(MarketDataSource.isValidStockCode("05930"));
+        assertFalse(MarketDataSource.isValidStockCode("005930\""));
+        assertFalse(MarketDataSource.isValidStockCode("00593a"));
+
+        ReplayMarketDataSource replay = new ReplayMarketDataSource(Path.of("unused"), 0, false);
+        assertThrows(IllegalArgumentException.class, () -> replay.subscribe("\",\"tr_type\":\"2"));
+        assertTrue(replay.getSubscriptions().isEmpty());
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.demo.app.stock.feed;
+
+import com.example.demo.app.stock.service.TickListener;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickEventBusTest {
+    private static class CountingListener implements TickListener {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong outOfOrder = new AtomicLong();
+        final CountDownLatch done;
+        long lastVolume = -1;
+
+        CountingListener(int expected) {
+            done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onTick(String stockCode, long timestamp, double price, long cumulativeVolume) {
+            if (cumulativeVolume <= lastVolume) {
+                outOfOrder.incrementAndGet();
+            }
+            lastVolume = cumulativeVolume;
+            count.incrementAndGet();
+            done.countDown();
+        }
+    }
+
+    @Test void testRejectsCapacityThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TickEventBus(100, List.of()));
+    }
+
+    @Test void testDeliversEveryTickInOrderToEverySubscriber() throws InterruptedException {
+        int ticks = 100_000;
+        CountingListener first = new CountingListener(ticks);
+        CountingListener second = new CountingListener(ticks);
+        TickEventBus bus = new TickEventBus(64, List.of(first, second));
+        bus.start();
+        try {
+            for (int i = 0; i < ticks; ++i) {
+                bus.publish("005930", i, 71900, i);
+            }
+
+            assertTrue(first.done.await(10, TimeUnit.SECONDS));
+            assertTrue(second.done.await(10, TimeUnit.SECONDS));
+            assertEquals(0, first.outOfOrder.get());
+            assertEquals(0, second.outOfOrder.get());
+        } finally {
+            bus.close();
+        }
+    }
+
+    @Test void testDropsTicksWhenNotRunning() {
+        CountingListener listener = new CountingListener(1);
+        TickEventBus bus = new TickEventBus(4, List.of(listener));
+
+        bus.publish("005930", 1, 71900, 1);
+        assertEquals(-1, bus.getPublishedSequence());
+    }
+
+    @Test void testIdleSubscriberParksUntilPublish() throws InterruptedException {
+        CountingListener listener = new CountingListener(1);
+        TickEventBus bus = new TickEventBus(8, List.of(listener));
+        bus.start();
+        try {
+            Thread subscriber = awaitSubscriberState("tick-bus-CountingListener", Thread.State.WAITING);
+            assertNotNull(subscriber, "idle subscriber should park without a timeout");
+
+            assertTrue(bus.publish("005930", 1, 71900, 1));
+            assertTrue(listener.done.await(10, TimeUnit.SECONDS));
+        } finally {
+            bus.close();
+        }
+    }
+
+    @Test void testDropsTicksWhenRingStaysFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        TickListener blocked = (stockCode, timestamp, price, cumulativeVolume) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        TickEventBus bus = new TickEventBus(4, TimeUnit.MILLISECONDS.toNanos(20), List.of(blocked));
+        bus.start();
+        try {
+            int published = 0;
+            for (int i = 0; i < 10; ++i) {
+                if (bus.publish("005930", i, 71900, i)) {
+                    ++published;
+                }
+            }
+
+            // The listener never finishes its first batch, so the ring fills after four ticks.
+            assertEquals(4, published);
+            assertEquals(6, bus.getDroppedCount());
+            assertEquals(3, bus.getPublishedSequence());
+        } finally {
+            release.countDown();
+            bus.close();
+        }
+    }
+
+    @Test void testFailedSubscriberDoesNotBlockProducers() throws InterruptedException {
+        TickListener failing = (stockCode, timestamp, price, cumulativeVolume) -> {
+            throw new AssertionError("listener bug");
+        };
+        CountingListener healthy = new CountingListener(100);
+        TickEventBus bus = new TickEventBus(4, TimeUnit.SECONDS.toNanos(10), List.of(failing, healthy));
+        bus.start();
+        try {
+            for (int i = 0; i < 100; ++i) {
+                assertTrue(bus.publish("005930", i, 71900, i));
+            }
+
+            assertTrue(healthy.done.await(10, TimeUnit.SECONDS));
+            assertEquals(0, bus.getDroppedCount());
+        } finally {
+            bus.close();
+        }
+    }
+
+    private static Thread awaitSubscriberState(String name, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().equals(name) && thread.getState() == state) {
+                    return thread;
+                }
+            }
+            Thread.sleep(10);
+        }
+        return null;
+    }
+
+    @Test void testReplayFeedsRecordedFramesThroughParserAndBus() throws Exception {
+        Path file = Files.createTempFile("ticks", ".txt");
+        try {
+            Files.write(file, List.of(
+                    "1000\t0|H0STCNT0|001|" + TickFrameParserTest.record("005930", "71900", "10"),
+                    "",
+                    "1001\t0|H0STCNT0|002|" + TickFrameParserTest.record("005930", "72000", "20")
+                            + "^" + TickFrameParserTest.record("005930", "72100", "30")));
+
+            CountingListener listener = new CountingListener(3);
+            TickEventBus bus = new TickEventBus(8, List.of(listener));
+            bus.start();
+            TickFrameParser parser = new TickFrameParser();
+            ReplayMarketDataSource replay = new ReplayMarketDataSource(file, 0, false);
+            try {
+                replay.start((frame, receivedAt) -> parser.parse(frame, receivedAt, bus::publish));
+
+                assertTrue(listener.done.await(10, TimeUnit.SECONDS));
+                assertEquals(3, listener.count.get());
+                assertEquals(0, listener.outOfOrder.get());
+            } finally {
+                replay.close();
+                bus.close();
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.app.stock.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickFrameParserTest {
+    private final List<String> ticks = new ArrayList<>();
+    private final List<String> codes = new ArrayList<>();
+
+    private int parse(TickFrameParser parser, String frame) {
+        return parser.parse(frame, 1_000L, (stockCode, timestamp, price, cumulativeVolume) -> {
+            ticks.add(stockCode + "@" + timestamp + ":" + (long) price + "/" + cumulativeVolume);
+            codes.add(stockCode);
+        });
+    }
+
+    static String record(String code, String price, String cumulativeVolume) {
+        StringBuilder record = new StringBuilder();
+        for (int field = 0; field < TickFrameParser.FIELDS_PER_RECORD; ++field) {
+            if (field > 0) {
+                record.append('^');
+            }
+            if (field == TickFrameParser.CODE_FIELD) {
+                record.append(code);
+            } else if (field == TickFrameParser.PRICE_FIELD) {
+                record.append(price);
+            } else if (field == TickFrameParser.CUMULATIVE_VOLUME_FIELD) {
+                record.append(cumulativeVolume);
+            } else {
+                record.append(field);
+            }
+        }
+        return record.toString();
+    }
+
+    @Test void testParsesSingleRecord() {
+        TickFrameParser parser = new TickFrameParser();
+
+        assertEquals(1, parse(parser, "0|H0STCNT0|001|" + record("005930", "71900", "1234567")));
+        assertEquals(List.of("005930@1000:71900/1234567"), ticks);
+    }
+
+    @Test void testParsesMultipleRecords() {
+        TickFrameParser parser = new TickFrameParser();
+
+        String frame = "0|H0STCNT0|002|" + record("005930", "71900", "100") + "^" + record("000660", "130500", "200");
+        assertEquals(2, parse(parser, frame));
+        assertEquals(List.of("005930@1000:71900/100", "000660@1000:130500/200"), ticks);
+    }
+
+    @Test void testReusesCodeStrings() {
+        TickFrameParser parser = new TickFrameParser();
+
+        for (int i = 0; i < 200; ++i) {
+            parse(parser, "0|H0STCNT0|001|" + record(String.format("%06d", i), "100", "1"));
+        }
+        parse(parser, "0|H0STCNT0|001|" + record("000007", "100", "1"));
+
+        assertSame(codes.get(7), codes.get(200));
+    }
+
+    @Test void testIgnoresOtherFrames() {
+        TickFrameParser parser = new TickFrameParser();
+
+        assertEquals(-1, parse(parser, "{\"header\":{\"tr_id\":\"PINGPONG\"}}"));
+        assertEquals(-1, parse(parser, "1|H0STCNT0|001|encrypted"));
+        assertEquals(-1, parse(parser, "0|H0STASP0|001|" + record("005930", "71900", "100")));
+        assertEquals(-1, parse(parser, "0|H0STCNT0|"));
+        assertTrue(ticks.isEmpty());
+    }
+
+    @Test void testSkipsRecordsWithoutPrice() {
+        TickFrameParser parser = new TickFrameParser();
+
+        assertEquals(0, parse(parser, "0|H0STCNT0|001|" + record("005930", "", "100")));
+        assertEquals(1, parse(parser, "0|H0STCNT0|001|" + record("005930", "71900", "")));
+        assertEquals(List.of("005930@1000:71900/-1"), ticks);
+    }
+
+    @Test void testParseLong() {
+        assertEquals(71900, TickFrameParser.parseLong("71900", 0, 5));
+        assertEquals(-5, TickFrameParser.parseLong("x-5", 1, 3));
+        assertEquals(Long.MIN_VALUE, TickFrameParser.parseLong("7a", 0, 2));
+        assertEquals(Long.MIN_VALUE, TickFrameParser.parseLong("-", 0, 1));
+    }
+}
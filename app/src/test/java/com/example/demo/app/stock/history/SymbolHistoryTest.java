@@ -0,0 +1,100 @@
+package com.example.demo.app.stock.history;
+
+import com.example.demo.app.stock.dto.OhlcvBar;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolHistoryTest {
+    private static final long MINUTE = 60_000L;
+
+    @Test void testAggregatesTicksIntoBars() {
+        SymbolHistory history = new SymbolHistory(16, 16);
+
+        history.record(10 * MINUTE + 1_000, 100, 1_000);
+        history.record(10 * MINUTE + 2_000, 105, 1_200);
+        history.record(10 * MINUTE + 3_000, 98, 1_500);
+        history.record(11 * MINUTE, 101, 1_600);
+
+        List<OhlcvBar> bars = history.getBars(BarInterval.MINUTE_1, 0, 10);
+        assertEquals(2, bars.size());
+
+        OhlcvBar first = bars.get(0);
+        assertEquals(10 * MINUTE, first.getStartTime());
+        assertEquals(100, first.getOpen(), 0);
+        assertEquals(105, first.getHigh(), 0);
+        assertEquals(98, first.getLow(), 0);
+        assertEquals(98, first.getClose(), 0);
+        assertEquals(500, first.getVolume());
+
+        OhlcvBar second = bars.get(1);
+        assertEquals(11 * MINUTE, second.getStartTime());
+        assertEquals(101, second.getOpen(), 0);
+        assertEquals(100, second.getVolume());
+
+        assertEquals(1, history.getBars(BarInterval.MINUTE_5, 0, 10).size());
+        assertEquals(4, history.getBars(BarInterval.SECOND_1, 0, 10).size());
+    }
+
+    @Test void testKeepsOnlyMostRecentBars() {
+        SymbolHistory history = new SymbolHistory(4, 3);
+
+        for (int i = 0; i < 10; ++i) {
+            history.record(i * MINUTE, i, -1);
+        }
+
+        List<OhlcvBar> bars = history.getBars(BarInterval.MINUTE_1, 0, 10);
+        assertEquals(3, bars.size());
+        assertEquals(7, bars.get(0).getClose(), 0);
+        assertEquals(9, bars.get(2).getClose(), 0);
+        assertEquals(4, history.getTickCount());
+
+        assertEquals(2, history.getBars(BarInterval.MINUTE_1, 0, 2).size());
+        assertEquals(1, history.getBars(BarInterval.MINUTE_1, 9 * MINUTE, 10).size());
+    }
+
+    @Test void testIgnoresLateTicksForClosedBars() {
+        SymbolHistory history = new SymbolHistory(16, 16);
+
+        history.record(2 * MINUTE, 100, -1);
+        history.record(MINUTE, 50, -1);
+
+        List<OhlcvBar> bars = history.getBars(BarInterval.MINUTE_1, 0, 10);
+        assertEquals(1, bars.size());
+        assertEquals(100, bars.get(0).getLow(), 0);
+    }
+
+    @Test void testVolumeResetsOnNewTradingDay() {
+        SymbolHistory history = new SymbolHistory(16, 16);
+
+        history.record(MINUTE, 100, 5_000);
+        history.record(2 * MINUTE, 100, 300);
+
+        List<OhlcvBar> bars = history.getBars(BarInterval.MINUTE_1, 0, 10);
+        assertEquals(0, bars.get(0).getVolume());
+        assertEquals(300, bars.get(1).getVolume());
+    }
+
+    @Test void testPerIntervalCapacity() {
+        int[] capacities = new int[BarInterval.values().length];
+        capacities[BarInterval.SECOND_1.ordinal()] = 2;
+        capacities[BarInterval.MINUTE_1.ordinal()] = 3;
+        capacities[BarInterval.MINUTE_5.ordinal()] = 4;
+        SymbolHistory history = new SymbolHistory(4, capacities);
+
+        for (int i = 0; i < 10; ++i) {
+            history.record(i * MINUTE, 100 + i, -1);
+        }
+
+        assertEquals(2, history.getBars(BarInterval.SECOND_1, 0, 100).size());
+        assertEquals(3, history.getBars(BarInterval.MINUTE_1, 0, 100).size());
+        assertEquals(2, history.getBars(BarInterval.MINUTE_5, 0, 100).size());
+        assertThrows(IllegalArgumentException.class, () -> new SymbolHistory(4, new int[] {1}));
+    }
+
+    @Test void testEstimateBytes() {
+        assertEquals(1024 * 24 + (600 + 390 + 288) * 48, SymbolHistory.estimateBytes(1024, new int[] {600, 390, 288}));
+    }
+}
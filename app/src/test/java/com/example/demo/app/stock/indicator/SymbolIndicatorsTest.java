@@ -0,0 +1,85 @@
+package com.example.demo.app.stock.indicator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolIndicatorsTest {
+    @Test void testEma() {
+        SymbolIndicators indicators = new SymbolIndicators("005930", 3, 14, 10, 30);
+
+        indicators.update(1, 100, -1);
+        assertEquals(100, indicators.value(Indicator.EMA), 1e-9);
+
+        indicators.update(2, 110, -1);
+        assertEquals(105, indicators.value(Indicator.EMA), 1e-9);
+    }
+
+    @Test void testVwap() {
+        SymbolIndicators indicators = new SymbolIndicators("005930", 20, 14, 10, 30);
+
+        indicators.update(1, 100, 1_000);
+        assertTrue(Double.isNaN(indicators.value(Indicator.VWAP)));
+
+        indicators.update(2, 100, 1_100);
+        indicators.update(3, 200, 1_200);
+        assertEquals(150, indicators.value(Indicator.VWAP), 1e-9);
+
+        // The broker resets its running volume at the start of a new day.
+        indicators.update(4, 300, 50);
+        assertEquals(300, indicators.value(Indicator.VWAP), 1e-9);
+    }
+
+    @Test void testRsi() {
+        SymbolIndicators indicators = new SymbolIndicators("005930", 20, 2, 10, 30);
+
+        indicators.update(1, 100, -1);
+        indicators.update(2, 102, -1);
+        assertTrue(Double.isNaN(indicators.value(Indicator.RSI)));
+
+        indicators.update(3, 101, -1);
+        // Average gain 1, average loss 0.5.
+        assertEquals(100 - 100 / 3.0, indicators.value(Indicator.RSI), 1e-9);
+
+        indicators.update(4, 103, -1);
+        assertEquals(100 - 100 / (1 + 1.5 / 0.25), indicators.value(Indicator.RSI), 1e-9);
+    }
+
+    @Test void testMomentum() {
+        SymbolIndicators indicators = new SymbolIndicators("005930", 20, 14, 2, 30);
+
+        indicators.update(1, 100, -1);
+        indicators.update(2, 105, -1);
+        assertTrue(Double.isNaN(indicators.value(Indicator.MOMENTUM)));
+
+        indicators.update(3, 110, -1);
+        assertEquals(0.10, indicators.value(Indicator.MOMENTUM), 1e-9);
+
+        indicators.update(4, 84, -1);
+        assertEquals(-0.20, indicators.value(Indicator.MOMENTUM), 1e-9);
+    }
+
+    @Test void testVolumeZScoreFlagsSpike() {
+        SymbolIndicators indicators = new SymbolIndicators("005930", 20, 14, 10, 10);
+
+        long cumulative = 0;
+        for (int i = 0; i < 50; ++i) {
+            cumulative += 100 + (i % 2) * 20;
+            indicators.update(i, 100, cumulative);
+        }
+        assertTrue(Math.abs(indicators.value(Indicator.VOLUME_ZSCORE)) < 2);
+
+        indicators.update(50, 100, cumulative + 1_000);
+        assertTrue(indicators.value(Indicator.VOLUME_ZSCORE) > 10);
+    }
+
+    @Test void testSnapshotUsesNullForValuesNotReady() {
+        SymbolIndicators indicators = new SymbolIndicators("005930", 20, 14, 10, 30);
+        indicators.update(1, 100, -1);
+
+        assertEquals("005930", indicators.snapshot().getCode());
+        assertEquals(100.0, indicators.snapshot().getEma());
+        assertNull(indicators.snapshot().getRsi());
+        assertNull(indicators.snapshot().getMomentum());
+    }
+}
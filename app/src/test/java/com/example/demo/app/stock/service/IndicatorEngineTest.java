@@ -0,0 +1,99 @@
+package com.example.demo.app.stock.service;
+
+import com.example.demo.app.stock.dto.IndicatorSnapshot;
+import com.example.demo.app.stock.indicator.Indicator;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndicatorEngineTest {
+    private static final long SECOND = 1_000L;
+
+    private static IndicatorEngine engine() {
+        return engine(100);
+    }
+
+    private static IndicatorEngine engine(int maxSymbols) {
+        IndicatorEngine engine = new IndicatorEngine();
+        ReflectionTestUtils.setField(engine, "emaPeriod", 20);
+        ReflectionTestUtils.setField(engine, "rsiPeriod", 14);
+        ReflectionTestUtils.setField(engine, "momentumPeriod", 2);
+        ReflectionTestUtils.setField(engine, "volumePeriod", 10);
+        ReflectionTestUtils.setField(engine, "maxSymbols", maxSymbols);
+        ReflectionTestUtils.setField(engine, "staleAfterMillis", 60 * SECOND);
+        return engine;
+    }
+
+    /** Feeds steady volume and then one spike, ending at {@code end}. */
+    private static void spike(IndicatorEngine engine, String code, long end, long spikeVolume) {
+        long cumulative = 0;
+        for (int i = 20; i > 0; --i) {
+            cumulative += 100 + (i % 2) * 20;
+            engine.onTick(code, end - i * SECOND, 100, cumulative);
+        }
+        engine.onTick(code, end, 100, cumulative + spikeVolume);
+    }
+
+    private static List<String> codes(List<IndicatorSnapshot> snapshots) {
+        return snapshots.stream().map(IndicatorSnapshot::getCode).toList();
+    }
+
+    @Test void testRanksBestFirst() {
+        IndicatorEngine engine = engine();
+        spike(engine, "000001", 100 * SECOND, 500);
+        spike(engine, "000002", 100 * SECOND, 2_000);
+        spike(engine, "000003", 100 * SECOND, 1_000);
+
+        assertEquals(List.of("000002", "000003"), codes(engine.top(Indicator.VOLUME_ZSCORE, 2)));
+        assertTrue(engine.top(Indicator.VOLUME_ZSCORE, 0).isEmpty());
+    }
+
+    @Test void testSkipsSymbolsThatStoppedTicking() {
+        IndicatorEngine engine = engine();
+        spike(engine, "000001", 100 * SECOND, 5_000);
+        spike(engine, "000002", 100 * SECOND, 1_000);
+        assertEquals("000001", engine.top(Indicator.VOLUME_ZSCORE, 1).get(0).getCode());
+
+        // 000002 keeps trading for longer than the staleness window; 000001 goes quiet.
+        for (int i = 1; i <= 90; ++i) {
+            engine.onTick("000002", (100 + i) * SECOND, 100, -1);
+        }
+
+        assertEquals(List.of("000002"), codes(engine.top(Indicator.VOLUME_ZSCORE, 10)));
+        assertEquals(List.of("000001", "000002"), codes(engine.top(Indicator.VOLUME_ZSCORE, 10, Long.MAX_VALUE / 2)));
+        assertNotNull(engine.getSnapshot("000001"));
+    }
+
+    @Test void testFullEngineEvictsStaleSymbolsFirst() {
+        IndicatorEngine engine = engine(3);
+        engine.onTick("000001", 0, 100, 10);
+        engine.onTick("000002", 0, 100, 10);
+        engine.onTick("000003", 100 * SECOND, 100, 10);
+
+        engine.onTick("000004", 101 * SECOND, 100, 10);
+        engine.onTick("000005", 102 * SECOND, 100, 10);
+
+        assertEquals(3, engine.getSymbolCount());
+        assertNull(engine.getSnapshot("000001"));
+        assertNull(engine.getSnapshot("000002"));
+        assertNotNull(engine.getSnapshot("000003"));
+        assertNotNull(engine.getSnapshot("000005"));
+    }
+
+    @Test void testFullEngineEvictsLeastRecentlyUpdatedWhenNothingIsStale() {
+        IndicatorEngine engine = engine(2);
+        engine.onTick("000001", 1 * SECOND, 100, 10);
+        engine.onTick("000002", 2 * SECOND, 100, 10);
+        engine.onTick("000001", 3 * SECOND, 100, 20);
+
+        engine.onTick("000003", 4 * SECOND, 100, 10);
+
+        assertEquals(2, engine.getSymbolCount());
+        assertNull(engine.getSnapshot("000002"));
+        assertNotNull(engine.getSnapshot("000001"));
+        assertNotNull(engine.getSnapshot("000003"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.app.stock.service;
+
+import com.example.demo.app.stock.history.BarInterval;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceHistoryServiceTest {
+    private static final long SECOND = 1_000L;
+
+    private static PriceHistoryService service(int maxSymbols) {
+        PriceHistoryService service = new PriceHistoryService();
+        ReflectionTestUtils.setField(service, "ticksPerSymbol", 16);
+        ReflectionTestUtils.setField(service, "secondBars", 8);
+        ReflectionTestUtils.setField(service, "minuteBars", 8);
+        ReflectionTestUtils.setField(service, "fiveMinuteBars", 8);
+        ReflectionTestUtils.setField(service, "maxSymbols", maxSymbols);
+        service.init();
+        return service;
+    }
+
+    @Test void testEvictsLeastRecentlyUpdatedSymbolWhenFull() {
+        PriceHistoryService service = service(2);
+        service.record("000001", 1 * SECOND, 100, 10);
+        service.record("000002", 2 * SECOND, 100, 10);
+        service.record("000001", 3 * SECOND, 101, 20);
+
+        service.record("000003", 4 * SECOND, 100, 10);
+
+        assertEquals(2, service.getSymbolCount());
+        assertNull(service.getBars("000002", BarInterval.SECOND_1, 0, 10));
+        assertNotNull(service.getBars("000001", BarInterval.SECOND_1, 0, 10));
+        assertNotNull(service.getBars("000003", BarInterval.SECOND_1, 0, 10));
+
+        // An evicted symbol comes back as soon as it quotes again.
+        service.record("000002", 5 * SECOND, 100, 10);
+        assertNotNull(service.getBars("000002", BarInterval.SECOND_1, 0, 10));
+        assertNull(service.getBars("000001", BarInterval.SECOND_1, 0, 10));
+    }
+
+    @Test void testConcurrentNewSymbolsStayWithinCap() throws Exception {
+        PriceHistoryService service = service(50);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; ++t) {
+                int thread = t;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; ++i) {
+                        service.record(String.format("%d%05d", thread, i), i, 100, i);
+                        assertTrue(service.getSymbolCount() <= 50);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(50, service.getSymbolCount());
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.demo.app.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static ResponseCache cache() {
+        ResponseCache cache = new ResponseCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        return cache;
+    }
+
+    private static List<String> titles(int count) {
+        List<String> titles = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            titles.add("게시글 " + i);
+        }
+        return titles;
+    }
+
+    @Test void testFreshEntryIsServedWithoutLoading() {
+        ResponseCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+
+        SerializedResponse first = cache.get("posts", 60_000, () -> titles(loads.incrementAndGet()));
+        SerializedResponse second = cache.get("posts", 60_000, () -> titles(loads.incrementAndGet()));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test void testSameInstanceFromLoaderReusesBytes() {
+        ResponseCache cache = cache();
+        List<String> value = titles(3);
+
+        SerializedResponse first = cache.get("posts", 0, () -> value);
+        SerializedResponse second = cache.get("posts", 0, () -> value);
+
+        assertSame(first, second);
+    }
+
+    @Test void testExpiredEntryIsReserialized() {
+        ResponseCache cache = cache();
+
+        SerializedResponse first = cache.get("posts", 0, () -> titles(3));
+        SerializedResponse second = cache.get("posts", 0, () -> titles(4));
+
+        assertNotSame(first, second);
+        assertNotEquals(first.getEtag(), second.getEtag());
+        assertSame(second, cache.get("posts", 60_000, () -> fail("entry should still be fresh")));
+    }
+
+    @Test void testInvalidateDropsEntry() {
+        ResponseCache cache = cache();
+        List<String> value = titles(3);
+
+        SerializedResponse first = cache.get("my-stocks:default", 60_000, () -> value);
+        cache.invalidate("my-stocks:default");
+
+        assertNotSame(first, cache.get("my-stocks:default", 60_000, () -> value));
+    }
+
+    @Test void testLoaderExceptionDoesNotPoisonCache() {
+        ResponseCache cache = cache();
+        SerializedResponse first = cache.get("posts", 0, () -> titles(3));
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.get("posts", 0, () -> { throw new IllegalStateException("upstream down"); }));
+
+        List<String> value = titles(3);
+        SerializedResponse recovered = cache.get("posts", 0, () -> value);
+        assertEquals(first.getEtag(), recovered.getEtag());
+        assertSame(recovered, cache.get("posts", 0, () -> value));
+
+        ResponseCache empty = cache();
+        assertThrows(IllegalStateException.class,
+                () -> empty.get("posts", 60_000, () -> { throw new IllegalStateException("upstream down"); }));
+        assertNotNull(empty.get("posts", 60_000, () -> titles(1)));
+    }
+
+    @Test void testConcurrentRequestsShareOneLoad() throws Exception {
+        ResponseCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<SerializedResponse>> responses = new ArrayList<>();
+            responses.add(executor.submit(() -> cache.get("top-traded", 0, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return titles(3);
+            })));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < requests; ++i) {
+                responses.add(executor.submit(() -> cache.get("top-traded", 0, () -> {
+                    loads.incrementAndGet();
+                    return titles(3);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            SerializedResponse first = responses.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<SerializedResponse> response : responses) {
+                assertSame(first, response.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test void testWaitingRequestsSeeTheLoaderFailure() throws Exception {
+        ResponseCache cache = cache();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SerializedResponse> loader = executor.submit(() -> cache.get("posts", 0, () -> {
+                loading.countDown();
+                await(release);
+                throw new IllegalStateException("upstream down");
+            }));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            Future<SerializedResponse> waiter = executor.submit(() -> cache.get("posts", 0, () -> titles(3)));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertFailsWithIllegalState(loader);
+            assertFailsWithIllegalState(waiter);
+            assertNotNull(cache.get("posts", 0, () -> titles(3)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void assertFailsWithIllegalState(Future<?> future) throws InterruptedException {
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("expected a failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } catch (TimeoutException e) {
+            fail("request did not finish");
+        }
+    }
+
+    @Test void testIdentityResponse() {
+        SerializedResponse response = cache().get("posts", 0, () -> titles(3));
+
+        ResponseEntity<byte[]> entity = ResponseCache.toResponseEntity(response, new HttpHeaders(),
+                CacheControl.noCache());
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        assertArrayEquals(response.getBody(), entity.getBody());
+        assertEquals(response.getEtag(), entity.getHeaders().getETag());
+        assertNull(entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), entity.getHeaders().getVary());
+    }
+
+    @Test void testGzipResponseVariesByAccount() {
+        SerializedResponse response = cache().get("my-stocks:default", 0, () -> titles(200));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        ResponseEntity<byte[]> entity = ResponseCache.toResponseEntity(response, request,
+                CacheControl.noCache().cachePrivate(), "X-Account-Id");
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        assertEquals("gzip", entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(response.getGzipBody(), entity.getBody());
+        assertEquals(response.getGzipEtag(), entity.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING, "X-Account-Id"), entity.getHeaders().getVary());
+    }
+
+    @Test void testMatchingIfNoneMatchIsNotModified() {
+        SerializedResponse response = cache().get("posts", 0, () -> titles(3));
+        HttpHeaders request = new HttpHeaders();
+        request.set(HttpHeaders.IF_NONE_MATCH, response.getEtag());
+
+        ResponseEntity<byte[]> entity = ResponseCache.toResponseEntity(response, request, CacheControl.noCache());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, entity.getStatusCode());
+        assertNull(entity.getBody());
+        assertEquals(response.getEtag(), entity.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), entity.getHeaders().getVary());
+
+        // The gzip representation has its own tag, so the identity tag does not validate it.
+        SerializedResponse large = cache().get("posts", 0, () -> titles(200));
+        request.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        request.set(HttpHeaders.IF_NONE_MATCH, large.getEtag());
+        assertEquals(HttpStatus.OK, ResponseCache.toResponseEntity(large, request, CacheControl.noCache()).getStatusCode());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.app.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedResponseTest {
+
+    private static byte[] json(int entries) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < entries; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i).append(",\"title\":\"게시글 ").append(i).append("\"}");
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test void testEtagIsStableAndContentBased() {
+        SerializedResponse first = new SerializedResponse(json(10));
+        SerializedResponse same = new SerializedResponse(json(10));
+        SerializedResponse other = new SerializedResponse(json(11));
+
+        assertEquals(first.getEtag(), same.getEtag());
+        assertNotEquals(first.getEtag(), other.getEtag());
+        assertTrue(first.getEtag().startsWith("\"") && first.getEtag().endsWith("\""));
+        assertNotEquals(first.getEtag(), first.getGzipEtag());
+        assertTrue(first.getGzipEtag().endsWith("-gzip\""));
+    }
+
+    @Test void testGzipBodyIsCompressedOnceAndRoundTrips() throws IOException {
+        byte[] body = json(200);
+        SerializedResponse response = new SerializedResponse(body);
+
+        byte[] compressed = response.getGzipBody();
+        assertSame(compressed, response.getGzipBody());
+        assertTrue(compressed.length < body.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+    }
+
+    @Test void testShouldCompress() {
+        SerializedResponse large = new SerializedResponse(json(200));
+        SerializedResponse small = new SerializedResponse(json(1));
+
+        assertTrue(large.shouldCompress("gzip, deflate, br"));
+        assertTrue(large.shouldCompress("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(large.shouldCompress("*"));
+        assertFalse(large.shouldCompress(null));
+        assertFalse(large.shouldCompress("br, deflate"));
+        assertFalse(large.shouldCompress("gzip;q=0"));
+        assertFalse(small.shouldCompress("gzip"));
+    }
+
+    @Test void testExplicitGzipTakesPrecedenceOverWildcard() {
+        assertFalse(SerializedResponse.acceptsGzip("gzip;q=0, *"));
+        assertFalse(SerializedResponse.acceptsGzip("*, gzip;q=0"));
+        assertTrue(SerializedResponse.acceptsGzip("*;q=0, gzip"));
+        assertFalse(SerializedResponse.acceptsGzip("br, *;q=0"));
+        assertTrue(SerializedResponse.acceptsGzip("br, *;q=0.1"));
+    }
+
+    @Test void testQualityParameterIsCaseInsensitive() {
+        assertFalse(SerializedResponse.acceptsGzip("gzip;Q=0"));
+        assertFalse(SerializedResponse.acceptsGzip("gzip; q = 0.000"));
+        assertFalse(SerializedResponse.acceptsGzip("gzip;q=abc"));
+        assertTrue(SerializedResponse.acceptsGzip("gzip;Q=0.5"));
+    }
+
+    @Test void testMatches() {
+        assertTrue(SerializedResponse.matches("\"abc\"", "\"abc\""));
+        assertTrue(SerializedResponse.matches("\"x\", \"abc\"", "\"abc\""));
+        assertTrue(SerializedResponse.matches("W/\"abc\"", "\"abc\""));
+        assertTrue(SerializedResponse.matches("*", "\"abc\""));
+        assertFalse(SerializedResponse.matches(null, "\"abc\""));
+        assertFalse(SerializedResponse.matches("\"abc-gzip\"", "\"abc\""));
+    }
+}
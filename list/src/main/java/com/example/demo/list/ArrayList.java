@@ -0,0 +1,124 @@
+package com.example.demo.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class ArrayList implements StringList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final String[] EMPTY = new String[0];
+
+    private String[] elements;
+    private int size;
+
+    public ArrayList() {
+        elements = EMPTY;
+    }
+
+    public ArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        elements = initialCapacity == 0 ? EMPTY : new String[initialCapacity];
+    }
+
+    @Override
+    public void add(String element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    @Override
+    public void addAll(StringList other) {
+        if (other instanceof ArrayList) {
+            ArrayList source = (ArrayList) other;
+            int count = source.size;
+            ensureCapacity(size + count);
+            System.arraycopy(source.elements, 0, elements, size, count);
+            size += count;
+        } else {
+            String[] source = other.toArray();
+            ensureCapacity(size + source.length);
+            System.arraycopy(source, 0, elements, size, source.length);
+            size += source.length;
+        }
+    }
+
+    @Override
+    public boolean remove(String element) {
+        for (int i = 0; i < size; ++i) {
+            if (0 == element.compareTo(elements[i])) {
+                System.arraycopy(elements, i + 1, elements, i, size - i - 1);
+                elements[--size] = null;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        return elements[index];
+    }
+
+    @Override
+    public String[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >> 1));
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public String next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[next++];
+            }
+        };
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.demo.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * List that keeps all of its elements UTF-8 encoded in one contiguous buffer, with an
+ * {@code int[]} index of where each element starts.
+ * <p>
+ * Compared to {@link LinkedList} there is no per-element node, {@code String} or array
+ * header: an element costs its encoded bytes plus four bytes of index. Strings are only
+ * created on {@link #get(int)}. The buffer can live on the Java heap or off-heap in a
+ * direct buffer, and the whole list can be written to a file and {@link #map(Path) mapped}
+ * back. A mapped list reads element bytes straight from the mapping; only the offset index
+ * is copied onto the heap.
+ * <p>
+ * Only well-formed UTF-16 can be stored: strings with unpaired surrogates have no UTF-8 form
+ * and are rejected, so {@link #get(int)} always returns what was added.
+ */
+public class CompactStringList implements StringList {
+    public enum Storage {
+        HEAP,
+        DIRECT
+    }
+
+    private static final int MAGIC = 0x43534C31; // "CSL1"
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    private static final int DEFAULT_BYTE_CAPACITY = 256;
+    private static final int DEFAULT_INDEX_CAPACITY = 16;
+
+    private final Storage storage;
+    private ByteBuffer bytes;
+    private int[] offsets;
+    private int size;
+
+    public CompactStringList() {
+        this(Storage.HEAP);
+    }
+
+    public CompactStringList(Storage storage) {
+        this(storage, DEFAULT_INDEX_CAPACITY, DEFAULT_BYTE_CAPACITY);
+    }
+
+    public CompactStringList(Storage storage, int expectedElements, int expectedBytes) {
+        if (expectedElements < 0 || expectedBytes < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.storage = storage;
+        this.bytes = allocate(storage, expectedBytes);
+        this.offsets = new int[expectedElements + 1];
+    }
+
+    private CompactStringList(Storage storage, ByteBuffer bytes, int[] offsets, int size) {
+        this.storage = storage;
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     * Appends {@code element}. Throws {@link IllegalArgumentException}, leaving the list
+     * unchanged, when it contains an unpaired surrogate.
+     */
+    @Override
+    public void add(String element) {
+        int end = offsets[size];
+        int maxBytes = element.length() * 3;
+        if (bytes.isReadOnly() || bytes.capacity() - end < maxBytes) {
+            growBytes(end + maxBytes);
+        }
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(DEFAULT_INDEX_CAPACITY, offsets.length * 2));
+        }
+
+        offsets[size + 1] = encode(element, bytes, end);
+        ++size;
+    }
+
+    /** Adds every element of {@code other}; stops at the first one {@link #add(String)} rejects. */
+    @Override
+    public void addAll(StringList other) {
+        for (String element : other.toArray()) {
+            add(element);
+        }
+    }
+
+    @Override
+    public boolean remove(String element) {
+        if (hasUnpairedSurrogate(element)) {
+            // Could not have been added, and getBytes() would turn it into a '?' that may match.
+            return false;
+        }
+        byte[] encoded = element.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < size; ++i) {
+            if (matches(i, encoded)) {
+                removeAt(i, encoded.length);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean matches(int index, byte[] encoded) {
+        int start = offsets[index];
+        if (offsets[index + 1] - start != encoded.length) {
+            return false;
+        }
+        for (int i = 0; i < encoded.length; ++i) {
+            if (bytes.get(start + i) != encoded[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void removeAt(int index, int length) {
+        if (bytes.isReadOnly()) {
+            growBytes(bytes.capacity());
+        }
+
+        int start = offsets[index];
+        int end = offsets[size];
+        ByteBuffer tail = bytes.duplicate();
+        tail.limit(end).position(start + length);
+        ByteBuffer target = bytes.duplicate();
+        target.position(start);
+        target.put(tail);
+
+        for (int i = index + 1; i <= size; ++i) {
+            offsets[i - 1] = offsets[i] - length;
+        }
+        --size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+
+        byte[] copy = new byte[length];
+        bytes.get(start, copy);
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+
+    public int byteLength(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+
+        return offsets[index + 1] - offsets[index];
+    }
+
+    public long footprint() {
+        return (long) bytes.capacity() + (long) offsets.length * Integer.BYTES;
+    }
+
+    public void trimToSize() {
+        int used = offsets[size];
+        if (!bytes.isReadOnly() && used < bytes.capacity()) {
+            bytes = copyOf(bytes, used, used);
+        }
+        if (size + 1 < offsets.length) {
+            offsets = Arrays.copyOf(offsets, size + 1);
+        }
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] result = new String[size];
+        for (int i = 0; i < size; ++i) {
+            result[i] = get(i);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public String next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    public void writeTo(Path path) throws IOException {
+        int used = offsets[size];
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + (size + 1) * Integer.BYTES).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC).putInt(size).putInt(used);
+        for (int i = 0; i <= size; ++i) {
+            header.putInt(offsets[i]);
+        }
+        header.flip();
+
+        ByteBuffer payload = bytes.duplicate();
+        payload.position(0).limit(used);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining() || payload.hasRemaining()) {
+                channel.write(new ByteBuffer[] {header, payload});
+            }
+        }
+    }
+
+    /**
+     * Maps a file written by {@link #writeTo(Path)}. Element bytes stay in the mapping; the
+     * first modification copies them into a new buffer of the given storage. The offset index is
+     * checked here, so a truncated or corrupt file fails with {@link IOException} rather than on
+     * a later {@link #get(int)}; element bytes are not validated.
+     */
+    public static CompactStringList map(Path path, Storage storage) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        mapped.order(ByteOrder.BIG_ENDIAN);
+        if (mapped.remaining() < HEADER_BYTES || mapped.getInt() != MAGIC) {
+            throw new IOException("Not a compact string list file: " + path);
+        }
+        int size = mapped.getInt();
+        int used = mapped.getInt();
+        if (size < 0 || used < 0 || mapped.remaining() != ((long) size + 1) * Integer.BYTES + used) {
+            throw new IOException("Corrupt compact string list file: " + path);
+        }
+
+        int[] offsets = new int[size + 1];
+        mapped.asIntBuffer().get(offsets);
+        mapped.position(mapped.position() + offsets.length * Integer.BYTES);
+        if (offsets[0] != 0 || offsets[size] != used) {
+            throw new IOException("Corrupt compact string list file: " + path);
+        }
+        for (int i = 0; i < size; ++i) {
+            if (offsets[i + 1] < offsets[i]) {
+                throw new IOException("Corrupt compact string list file: " + path);
+            }
+        }
+
+        return new CompactStringList(storage, mapped.slice(), offsets, size);
+    }
+
+    public static CompactStringList map(Path path) throws IOException {
+        return map(path, Storage.HEAP);
+    }
+
+    private void growBytes(int minCapacity) {
+        int capacity = bytes.capacity();
+        int newCapacity = bytes.isReadOnly() ? capacity : Math.max(DEFAULT_BYTE_CAPACITY, capacity * 2);
+        if (newCapacity < minCapacity || newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        bytes = copyOf(bytes, offsets[size], newCapacity);
+    }
+
+    private ByteBuffer copyOf(ByteBuffer source, int used, int capacity) {
+        ByteBuffer copy = allocate(storage, capacity);
+        ByteBuffer data = source.duplicate();
+        data.position(0).limit(used);
+        copy.put(data);
+        copy.clear();
+        return copy;
+    }
+
+    private static ByteBuffer allocate(Storage storage, int capacity) {
+        return storage == Storage.DIRECT ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static boolean hasUnpairedSurrogate(String element) {
+        int length = element.length();
+        for (int i = 0; i < length; ++i) {
+            char c = element.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(element.charAt(i + 1))) {
+                ++i;
+            } else if (Character.isSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int encode(String element, ByteBuffer target, int position) {
+        int length = element.length();
+        for (int i = 0; i < length; ++i) {
+            char c = element.charAt(i);
+            if (c < 0x80) {
+                target.put(position++, (byte) c);
+            } else if (c < 0x800) {
+                target.put(position++, (byte) (0xC0 | (c >> 6)));
+                target.put(position++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(element.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, element.charAt(++i));
+                target.put(position++, (byte) (0xF0 | (codePoint >> 18)));
+                target.put(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                target.put(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                target.put(position++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                throw new IllegalArgumentException("Unpaired surrogate at index " + i);
+            } else {
+                target.put(position++, (byte) (0xE0 | (c >> 12)));
+                target.put(position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                target.put(position++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        return position;
+    }
+}
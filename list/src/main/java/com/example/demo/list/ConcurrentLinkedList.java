@@ -0,0 +1,194 @@
+package com.example.demo.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, append-only list that can be shared between threads without external locking.
+ * <p>
+ * Appends follow the Michael-Scott queue: a new node is linked with a CAS on the last
+ * node's {@code next} and the {@code tail} hint is swung afterwards, with other threads
+ * helping it forward when they find it lagging. {@link #remove(String)} only clears the
+ * node's data with a CAS, so removed nodes stay in the chain and are skipped by readers.
+ * <p>
+ * Iteration, {@link #get(int)} and {@link #toArray()} are weakly consistent: they never
+ * throw on concurrent modification and see every element added before they started,
+ * but may or may not see later ones. {@link #size()} comes from a striped counter and is
+ * only exact when the list is quiescent.
+ */
+public class ConcurrentLinkedList implements StringList {
+    private static final VarHandle NEXT;
+    private static final VarHandle DATA;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            DATA = lookup.findVarHandle(Node.class, "data", String.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedList.class, "tail", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Node head = new Node(null);
+    private volatile Node tail = head;
+    private final LongAdder size = new LongAdder();
+
+    @Override
+    public void add(String element) {
+        Node newNode = new Node(checkElement(element));
+        append(newNode, newNode);
+        size.increment();
+    }
+
+    @Override
+    public void addAll(StringList other) {
+        Node first = null;
+        Node last = null;
+        int count = 0;
+        for (String element : other) {
+            Node newNode = new Node(checkElement(element));
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            ++count;
+        }
+
+        if (first != null) {
+            append(first, last);
+            size.add(count);
+        }
+    }
+
+    private void append(Node first, Node last) {
+        while (true) {
+            Node t = tail;
+            Node next = t.next;
+            if (next == null) {
+                if (NEXT.compareAndSet(t, null, first)) {
+                    TAIL.compareAndSet(this, t, last);
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, t, next);
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(String element) {
+        for (Node it = head.next; it != null; it = it.next) {
+            String data = it.data;
+            if (data != null && 0 == element.compareTo(data) && DATA.compareAndSet(it, data, null)) {
+                size.decrement();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int size() {
+        long sum = size.sum();
+        return sum < 0 ? 0 : (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return first(head.next) == null;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index >= 0) {
+            for (Node it = head.next; it != null; it = it.next) {
+                String data = it.data;
+                if (data != null && index-- == 0) {
+                    return data;
+                }
+            }
+        }
+
+        throw new IndexOutOfBoundsException("Index is out of range");
+    }
+
+    @Override
+    public String[] toArray() {
+        ArrayList result = new ArrayList(size());
+        for (String element : this) {
+            result.add(element);
+        }
+
+        return result.toArray();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private Node next;
+            private String nextData;
+
+            {
+                advanceFrom(head.next);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                String result = nextData;
+                advanceFrom(next.next);
+                return result;
+            }
+
+            private void advanceFrom(Node it) {
+                String data = null;
+                while (it != null && (data = it.data) == null) {
+                    it = it.next;
+                }
+                next = it;
+                nextData = data;
+            }
+        };
+    }
+
+    private static Node first(Node from) {
+        Node it = from;
+        while (it != null && it.data == null) {
+            it = it.next;
+        }
+
+        return it;
+    }
+
+    private static String checkElement(String element) {
+        if (element == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+
+        return element;
+    }
+
+    private static class Node {
+        volatile String data;
+        volatile Node next;
+
+        Node(String data) {
+            this.data = data;
+        }
+    }
+}
@@ -3,28 +3,35 @@
  */
 package com.example.demo.list;
 
-public class LinkedList {
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class LinkedList implements StringList {
     private Node head;
+    private Node tail;
+    private int size;
 
+    @Override
     public void add(String element) {
         Node newNode = new Node(element);
 
-        Node it = tail(head);
-        if (it == null) {
+        if (tail == null) {
             head = newNode;
         } else {
-            it.next = newNode;
+            tail.next = newNode;
         }
+        tail = newNode;
+        ++size;
     }
 
-    private static Node tail(Node head) {
-        Node it;
-
-        for (it = head; it != null && it.next != null; it = it.next) {}
-
-        return it;
+    @Override
+    public void addAll(StringList other) {
+        for (String element : other.toArray()) {
+            add(element);
+        }
     }
 
+    @Override
     public boolean remove(String element) {
         boolean result = false;
         Node previousIt = null;
@@ -46,16 +53,18 @@ public class LinkedList {
         } else {
             previousIt.next = currentIt.next;
         }
+        if (currentIt == tail) {
+            tail = previousIt;
+        }
+        --size;
     }
 
+    @Override
     public int size() {
-        int size = 0;
-
-        for (Node it = head; it != null; ++size, it = it.next) {}
-
         return size;
     }
 
+    @Override
     public String get(int index) {
         Node it = head;
         while (index > 0 && it != null) {
@@ -70,6 +79,39 @@ public class LinkedList {
         return it.data;
     }
 
+    @Override
+    public String[] toArray() {
+        String[] result = new String[size];
+        int i = 0;
+        for (Node it = head; it != null; it = it.next) {
+            result[i++] = it.data;
+        }
+
+        return result;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private Node next = head;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                String data = next.data;
+                next = next.next;
+                return data;
+            }
+        };
+    }
+
     private static class Node {
         final String data;
         Node next;
@@ -0,0 +1,15 @@
+package com.example.demo.list;
+
+public interface StringList extends Iterable<String> {
+    void add(String element);
+
+    void addAll(StringList other);
+
+    boolean remove(String element);
+
+    int size();
+
+    String get(int index);
+
+    String[] toArray();
+}
@@ -0,0 +1,108 @@
+package com.example.demo.list;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayListTest {
+    @Test void testConstructor() {
+        ArrayList list = new ArrayList();
+        assertEquals(0, list.size());
+        assertEquals(0, list.capacity());
+    }
+
+    @Test void testAdd() {
+        ArrayList list = new ArrayList();
+
+        list.add("one");
+        assertEquals(1, list.size());
+        assertEquals("one", list.get(0));
+
+        list.add("two");
+        assertEquals(2, list.size());
+        assertEquals("two", list.get(1));
+    }
+
+    @Test void testGrowth() {
+        ArrayList list = new ArrayList(1);
+
+        for (int i = 0; i < 100; ++i) {
+            list.add(String.valueOf(i));
+        }
+
+        assertEquals(100, list.size());
+        assertEquals("0", list.get(0));
+        assertEquals("99", list.get(99));
+        assertTrue(list.capacity() >= 100);
+    }
+
+    @Test void testGetOutOfRange() {
+        ArrayList list = new ArrayList();
+        list.add("one");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test void testRemove() {
+        ArrayList list = new ArrayList();
+
+        list.add("one");
+        list.add("two");
+        assertTrue(list.remove("one"));
+
+        assertEquals(1, list.size());
+        assertEquals("two", list.get(0));
+
+        assertTrue(list.remove("two"));
+        assertEquals(0, list.size());
+    }
+
+    @Test void testRemoveMissing() {
+        ArrayList list = new ArrayList();
+
+        list.add("one");
+        list.add("two");
+        assertFalse(list.remove("three"));
+        assertEquals(2, list.size());
+    }
+
+    @Test void testAddAll() {
+        ArrayList list = new ArrayList();
+        list.add("one");
+
+        ArrayList other = new ArrayList();
+        other.add("two");
+        list.addAll(other);
+
+        LinkedList linked = new LinkedList();
+        linked.add("three");
+        list.addAll(linked);
+
+        assertArrayEquals(new String[] {"one", "two", "three"}, list.toArray());
+    }
+
+    @Test void testCapacityControls() {
+        ArrayList list = new ArrayList();
+
+        list.ensureCapacity(50);
+        assertEquals(50, list.capacity());
+
+        list.add("one");
+        list.trimToSize();
+        assertEquals(1, list.capacity());
+        assertEquals("one", list.get(0));
+    }
+
+    @Test void testIterator() {
+        ArrayList list = new ArrayList();
+        list.add("one");
+        list.add("two");
+
+        StringBuilder result = new StringBuilder();
+        for (String element : list) {
+            result.append(element);
+        }
+        assertEquals("onetwo", result.toString());
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.demo.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactStringListTest {
+    @Test void testConstructor() {
+        CompactStringList list = new CompactStringList();
+        assertEquals(0, list.size());
+    }
+
+    @Test void testAdd() {
+        for (CompactStringList.Storage storage : CompactStringList.Storage.values()) {
+            CompactStringList list = new CompactStringList(storage);
+
+            list.add("one");
+            assertEquals(1, list.size());
+            assertEquals("one", list.get(0));
+
+            list.add("two");
+            assertEquals(2, list.size());
+            assertEquals("two", list.get(1));
+        }
+    }
+
+    @Test void testAddNonAscii() {
+        CompactStringList list = new CompactStringList(CompactStringList.Storage.DIRECT, 0, 0);
+
+        list.add("");
+        list.add("주식");
+        list.add("é😀x");
+
+        assertEquals("", list.get(0));
+        assertEquals("주식", list.get(1));
+        assertEquals(6, list.byteLength(1));
+        assertEquals("é😀x", list.get(2));
+    }
+
+    @Test void testGrowth() {
+        CompactStringList list = new CompactStringList(CompactStringList.Storage.HEAP, 0, 0);
+
+        for (int i = 0; i < 10_000; ++i) {
+            list.add("token" + i);
+        }
+
+        assertEquals(10_000, list.size());
+        assertEquals("token0", list.get(0));
+        assertEquals("token9999", list.get(9999));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10_000));
+    }
+
+    @Test void testRemove() {
+        CompactStringList list = new CompactStringList();
+
+        list.add("one");
+        list.add("two");
+        list.add("three");
+        assertTrue(list.remove("two"));
+
+        assertEquals(2, list.size());
+        assertEquals("one", list.get(0));
+        assertEquals("three", list.get(1));
+
+        assertTrue(list.remove("one"));
+        assertTrue(list.remove("three"));
+        assertEquals(0, list.size());
+    }
+
+    @Test void testRemoveMissing() {
+        CompactStringList list = new CompactStringList();
+
+        list.add("one");
+        list.add("two");
+        assertFalse(list.remove("three"));
+        assertFalse(list.remove("on"));
+        assertEquals(2, list.size());
+    }
+
+    @Test void testAddAllAndIterate() {
+        CompactStringList list = new CompactStringList();
+        ArrayList other = new ArrayList();
+        other.add("one");
+        other.add("two");
+        list.addAll(other);
+
+        StringBuilder result = new StringBuilder();
+        for (String element : list) {
+            result.append(element);
+        }
+        assertEquals("onetwo", result.toString());
+        assertArrayEquals(new String[] {"one", "two"}, list.toArray());
+    }
+
+    @Test void testFootprint() {
+        CompactStringList list = new CompactStringList();
+        for (int i = 0; i < 100_000; ++i) {
+            list.add("t" + (i % 1000));
+        }
+        list.trimToSize();
+
+        // At most 4 bytes of UTF-8 plus 4 bytes of index per element.
+        assertTrue(list.footprint() <= 100_001L * 8);
+    }
+
+    @Test void testWriteAndMap() throws IOException {
+        Path file = Files.createTempFile("compact-string-list", ".bin");
+        try {
+            CompactStringList list = new CompactStringList();
+            list.add("one");
+            list.add("주식");
+            list.add("three");
+            list.writeTo(file);
+
+            CompactStringList mapped = CompactStringList.map(file);
+            assertArrayEquals(list.toArray(), mapped.toArray());
+
+            mapped.add("four");
+            assertTrue(mapped.remove("one"));
+            assertArrayEquals(new String[] {"주식", "three", "four"}, mapped.toArray());
+            assertArrayEquals(new String[] {"one", "주식", "three"}, CompactStringList.map(file).toArray());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test void testMapRejectsCorruptOffsets() throws IOException {
+        Path file = Files.createTempFile("compact-string-list", ".bin");
+        try {
+            CompactStringList list = new CompactStringList();
+            list.add("one");
+            list.add("주식");
+            list.add("three");
+            list.writeTo(file);
+            byte[] valid = Files.readAllBytes(file);
+            int index = 3 * Integer.BYTES;
+
+            // offsets are 0, 3, 9, 14 after the magic, size and used header fields
+            for (int[] corruption : new int[][] {{0, 1}, {1, 10}, {3, 13}, {2, -1}}) {
+                byte[] corrupt = valid.clone();
+                ByteBuffer.wrap(corrupt).putInt(index + corruption[0] * Integer.BYTES, corruption[1]);
+                Files.write(file, corrupt);
+                assertThrows(IOException.class, () -> CompactStringList.map(file));
+            }
+
+            Files.write(file, Arrays.copyOf(valid, valid.length - 1));
+            assertThrows(IOException.class, () -> CompactStringList.map(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test void testMapRejectsOtherFiles() throws IOException {
+        Path file = Files.createTempFile("compact-string-list", ".bin");
+        try {
+            Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+            assertThrows(IOException.class, () -> CompactStringList.map(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test void testRejectsUnpairedSurrogates() {
+        CompactStringList list = new CompactStringList();
+        list.add("a?b");
+        list.add("😀");
+
+        assertThrows(IllegalArgumentException.class, () -> list.add("a\uD83Db"));
+        assertThrows(IllegalArgumentException.class, () -> list.add("\uDE00"));
+        assertThrows(IllegalArgumentException.class, () -> list.add("end\uD83D"));
+        assertEquals(2, list.size());
+        assertArrayEquals(new String[] {"a?b", "😀"}, list.toArray());
+
+        // The lone surrogate would encode to '?' with String.getBytes; it must not match "a?b".
+        assertFalse(list.remove("a\uD83Db"));
+        assertEquals(2, list.size());
+
+        list.add("next");
+        assertEquals("next", list.get(2));
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The concurrent tests are stress tests of specific properties: per-producer order, contiguous
+ * addAll batches, exactly-once removal and readers seeing completed adds. They do not check
+ * linearizability of arbitrary interleavings, which would need a model checker such as jcstress.
+ */
+class ConcurrentLinkedListTest {
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 20_000;
+    private static final int REMOVALS = 2_000;
+
+    @Test void testConstructor() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test void testAdd() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+
+        list.add("one");
+        assertEquals(1, list.size());
+        assertEquals("one", list.get(0));
+
+        list.add("two");
+        assertEquals(2, list.size());
+        assertEquals("two", list.get(1));
+    }
+
+    @Test void testAddNull() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    @Test void testRemove() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+
+        list.add("one");
+        list.add("two");
+        assertTrue(list.remove("one"));
+
+        assertEquals(1, list.size());
+        assertEquals("two", list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+
+        assertTrue(list.remove("two"));
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test void testRemoveMissing() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+
+        list.add("one");
+        list.add("two");
+        assertFalse(list.remove("three"));
+        assertEquals(2, list.size());
+    }
+
+    @Test void testAddAll() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+        list.add("one");
+
+        ArrayList other = new ArrayList();
+        other.add("two");
+        other.add("three");
+        list.addAll(other);
+        list.add("four");
+
+        assertArrayEquals(new String[] {"one", "two", "three", "four"}, list.toArray());
+        assertEquals(4, list.size());
+    }
+
+    @Test void testIteratorSkipsRemoved() {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+        list.add("one");
+        list.add("two");
+        list.add("three");
+
+        Iterator<String> it = list.iterator();
+        assertEquals("one", it.next());
+        list.remove("three");
+        list.add("four");
+
+        assertEquals("two", it.next());
+        assertEquals("four", it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test void testConcurrentAddKeepsEveryElementInProducerOrder() throws InterruptedException {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < PER_THREAD; ++i) {
+                list.add(thread + ":" + i);
+            }
+        });
+
+        assertEquals(THREADS * PER_THREAD, list.size());
+
+        Map<String, Integer> lastSeen = new HashMap<>();
+        int count = 0;
+        for (String element : list) {
+            String[] parts = element.split(":");
+            int sequence = Integer.parseInt(parts[1]);
+            Integer previous = lastSeen.put(parts[0], sequence);
+            assertEquals(previous == null ? 0 : previous + 1, sequence, "Out of order for producer " + parts[0]);
+            ++count;
+        }
+        assertEquals(THREADS * PER_THREAD, count);
+    }
+
+    @Test void testConcurrentAddAllIsNotInterleaved() throws InterruptedException {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < PER_THREAD / 10; ++i) {
+                ArrayList batch = new ArrayList();
+                for (int j = 0; j < 10; ++j) {
+                    batch.add(thread + ":" + i + ":" + j);
+                }
+                list.addAll(batch);
+            }
+        });
+
+        String[] elements = list.toArray();
+        assertEquals(THREADS * PER_THREAD, elements.length);
+        for (int i = 0; i < elements.length; i += 10) {
+            String batch = elements[i].substring(0, elements[i].lastIndexOf(':'));
+            for (int j = 0; j < 10; ++j) {
+                assertEquals(batch + ":" + j, elements[i + j]);
+            }
+        }
+    }
+
+    @Test void testConcurrentRemoveRemovesEachElementOnce() throws InterruptedException {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+        for (int i = 0; i < REMOVALS; ++i) {
+            list.add(String.valueOf(i));
+        }
+
+        AtomicInteger removed = new AtomicInteger();
+        runConcurrently(thread -> {
+            for (int i = 0; i < REMOVALS; ++i) {
+                if (list.remove(String.valueOf(i))) {
+                    removed.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(REMOVALS, removed.get());
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test void testConcurrentReadersSeeCompletedAdds() throws InterruptedException {
+        ConcurrentLinkedList list = new ConcurrentLinkedList();
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            if (thread % 2 == 0) {
+                for (int i = 0; i < PER_THREAD; ++i) {
+                    list.add(thread + ":" + i);
+                }
+            } else {
+                for (int i = 0; i < 50; ++i) {
+                    int before = list.size();
+                    int seen = 0;
+                    for (String element : list) {
+                        if (element == null) {
+                            failures.incrementAndGet();
+                        }
+                        ++seen;
+                    }
+                    if (seen < before) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertEquals(0, failures.get());
+    }
+
+    private interface Worker {
+        void run(int thread);
+    }
+
+    private static void runConcurrently(Worker worker) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger errors = new AtomicInteger();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; ++t) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    worker.run(thread);
+                } catch (Throwable e) {
+                    errors.incrementAndGet();
+                }
+            });
+            threads[t].start();
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, errors.get());
+    }
+}
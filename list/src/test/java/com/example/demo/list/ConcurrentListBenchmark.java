@@ -0,0 +1,151 @@
+package com.example.demo.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures append throughput of {@link ConcurrentLinkedList} against a {@link LinkedList} behind a
+ * {@code synchronized} wrapper, for 1, 2, 4, ... up to 32 threads, with single adds and with
+ * batches through {@code addAll}. Not a test; run it with {@code ./gradlew :list:benchmark},
+ * optionally passing {@code -PbenchmarkArgs="<operations per thread> <rounds>"}. Numbers are only
+ * meaningful on a machine with at least as many cores as threads.
+ */
+public class ConcurrentListBenchmark {
+    private static final int DEFAULT_OPERATIONS = 200_000;
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int MAX_THREADS = 32;
+    private static final int BATCH = 16;
+
+    public static void main(String[] args) throws InterruptedException {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        System.out.printf("%d operations per thread, %d processors, median of %d rounds, Mops/s%n",
+                operations, Runtime.getRuntime().availableProcessors(), rounds);
+
+        ArrayList batch = new ArrayList();
+        for (int i = 0; i < BATCH; ++i) {
+            batch.add("token" + i);
+        }
+
+        System.out.printf("%-8s %14s %14s %14s %14s%n", "threads",
+                "lock-free add", "synced add", "lock-free all", "synced all");
+        for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+            int count = threads;
+            double concurrentAdd = median(rounds, () -> add(new ConcurrentLinkedList(), count, operations));
+            double synchronizedAdd = median(rounds, () -> add(new SynchronizedList(new LinkedList()), count, operations));
+            double concurrentAddAll = median(rounds,
+                    () -> addAll(new ConcurrentLinkedList(), batch, count, operations / BATCH));
+            double synchronizedAddAll = median(rounds,
+                    () -> addAll(new SynchronizedList(new LinkedList()), batch, count, operations / BATCH));
+            System.out.printf("%-8d %14.1f %14.1f %14.1f %14.1f%n",
+                    threads, concurrentAdd, synchronizedAdd, concurrentAddAll, synchronizedAddAll);
+        }
+    }
+
+    private interface Workload {
+        double run() throws InterruptedException;
+    }
+
+    private static double median(int rounds, Workload workload) throws InterruptedException {
+        // Warm up so the JIT has compiled the hot loops before timing.
+        for (int i = 0; i < 2; ++i) {
+            workload.run();
+        }
+        double[] results = new double[rounds];
+        for (int i = 0; i < rounds; ++i) {
+            results[i] = workload.run();
+        }
+        Arrays.sort(results);
+        return results[rounds / 2];
+    }
+
+    private static double add(StringList list, int threads, int operations) throws InterruptedException {
+        return run(threads, (long) threads * operations, () -> {
+            for (int i = 0; i < operations; ++i) {
+                list.add("token");
+            }
+        });
+    }
+
+    private static double addAll(StringList list, StringList batch, int threads, int batches)
+            throws InterruptedException {
+        return run(threads, (long) threads * batches * batch.size(), () -> {
+            for (int i = 0; i < batches; ++i) {
+                list.addAll(batch);
+            }
+        });
+    }
+
+    /** Runs {@code body} on every thread at once and returns millions of elements added per second. */
+    private static double run(int threads, long elements, Runnable body) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; ++t) {
+            workers[t] = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                body.run();
+            });
+            workers[t].start();
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return elements * 1e3 / (System.nanoTime() - begin);
+    }
+
+    /** The external-lock baseline: every call holds the wrapper's monitor. */
+    private static class SynchronizedList implements StringList {
+        private final StringList delegate;
+
+        SynchronizedList(StringList delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void add(String element) {
+            delegate.add(element);
+        }
+
+        @Override
+        public synchronized void addAll(StringList other) {
+            delegate.addAll(other);
+        }
+
+        @Override
+        public synchronized boolean remove(String element) {
+            return delegate.remove(element);
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized String get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public synchronized String[] toArray() {
+            return delegate.toArray();
+        }
+
+        @Override
+        public synchronized Iterator<String> iterator() {
+            return Arrays.asList(delegate.toArray()).iterator();
+        }
+    }
+}
@@ -47,4 +47,40 @@ class LinkedListTest {
         assertFalse(list.remove("three"));
         assertEquals(2, list.size());
     }
+
+    @Test void testAddAfterRemovingTail() {
+        LinkedList list = new LinkedList();
+
+        list.add("one");
+        list.add("two");
+        assertTrue(list.remove("two"));
+        list.add("three");
+
+        assertEquals(2, list.size());
+        assertEquals("one", list.get(0));
+        assertEquals("three", list.get(1));
+    }
+
+    @Test void testAddAll() {
+        LinkedList list = new LinkedList();
+        list.add("one");
+
+        LinkedList other = new LinkedList();
+        other.add("two");
+        other.add("three");
+
+        list.addAll(other);
+        assertEquals(3, list.size());
+        assertEquals("three", list.get(2));
+        assertEquals(2, other.size());
+    }
+
+    @Test void testToArray() {
+        LinkedList list = new LinkedList();
+        assertArrayEquals(new String[0], list.toArray());
+
+        list.add("one");
+        list.add("two");
+        assertArrayEquals(new String[] {"one", "two"}, list.toArray());
+    }
 }
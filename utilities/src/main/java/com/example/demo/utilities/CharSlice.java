@@ -0,0 +1,65 @@
+package com.example.demo.utilities;
+
+/**
+ * A read-only window onto a region of another {@link CharSequence}.
+ * No characters are copied until {@link #toString()} is called.
+ */
+public final class CharSlice implements CharSequence {
+    private final CharSequence source;
+    private final int offset;
+    private final int length;
+
+    public CharSlice(CharSequence source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > source.length()) {
+            throw new IndexOutOfBoundsException("Slice is out of range");
+        }
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index is out of range");
+        }
+        return source.charAt(offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        return new CharSlice(source, offset + start, end - start);
+    }
+
+    public boolean contentEquals(CharSequence other) {
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (source.charAt(offset + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (source instanceof String) {
+            return ((String) source).substring(offset, offset + length);
+        }
+        return source.subSequence(offset, offset + length).toString();
+    }
+}
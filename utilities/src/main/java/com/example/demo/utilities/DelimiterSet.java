@@ -0,0 +1,32 @@
+package com.example.demo.utilities;
+
+class DelimiterSet {
+    private static final int ASCII_LIMIT = 128;
+
+    private final boolean[] ascii = new boolean[ASCII_LIMIT];
+    private final String others;
+
+    DelimiterSet(String delimiters) {
+        if (delimiters == null || delimiters.isEmpty()) {
+            throw new IllegalArgumentException("At least one delimiter is required");
+        }
+
+        StringBuilder nonAscii = new StringBuilder();
+        for (int i = 0; i < delimiters.length(); ++i) {
+            char c = delimiters.charAt(i);
+            if (c < ASCII_LIMIT) {
+                ascii[c] = true;
+            } else {
+                nonAscii.append(c);
+            }
+        }
+        others = nonAscii.toString();
+    }
+
+    boolean contains(char c) {
+        if (c < ASCII_LIMIT) {
+            return ascii[c];
+        }
+        return others.indexOf(c) != -1;
+    }
+}
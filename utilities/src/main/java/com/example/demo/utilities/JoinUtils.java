@@ -3,16 +3,20 @@
  */
 package com.example.demo.utilities;
 
-import com.example.demo.list.LinkedList;
+import com.example.demo.list.StringList;
 
 class JoinUtils {
-    public static String join(LinkedList source) {
+    public static String join(StringList source) {
+        return join(source.toArray());
+    }
+
+    static String join(String[] source) {
         StringBuilder result = new StringBuilder();
-        for (int i = 0; i < source.size(); ++i) {
+        for (String element : source) {
             if (result.length() > 0) {
                 result.append(" ");
             }
-            result.append(source.get(i));
+            result.append(element);
         }
 
         return result.toString();
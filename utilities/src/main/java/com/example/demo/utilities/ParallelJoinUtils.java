@@ -0,0 +1,132 @@
+package com.example.demo.utilities;
+
+import com.example.demo.list.StringList;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+class ParallelJoinUtils {
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final char SEPARATOR = ' ';
+
+    public static String join(StringList source) {
+        return join(source, ForkJoinPool.commonPool());
+    }
+
+    public static String join(StringList source, ForkJoinPool pool) {
+        String[] elements = skipLeadingEmpty(source.toArray());
+        if (elements.length < PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+            return JoinUtils.join(elements);
+        }
+
+        int segmentSize = Math.max(PARALLEL_THRESHOLD / 4, elements.length / (pool.getParallelism() * 4) + 1);
+        int segmentCount = (elements.length + segmentSize - 1) / segmentSize;
+
+        int[] offsets = new int[segmentCount + 1];
+        pool.invoke(new MeasureTask(elements, segmentSize, offsets, 0, segmentCount));
+
+        // offsets[i + 1] holds the length of segment i; turn it into start positions,
+        // leaving room for the separator in front of every segment but the first.
+        for (int i = 1; i <= segmentCount; ++i) {
+            offsets[i] += offsets[i - 1] + (i > 1 ? 1 : 0);
+        }
+
+        char[] result = new char[offsets[segmentCount]];
+        pool.invoke(new FillTask(elements, segmentSize, offsets, result, 0, segmentCount));
+
+        return new String(result);
+    }
+
+    // JoinUtils only starts emitting separators after the first non-empty element,
+    // and appends null elements as "null", so they count as non-empty.
+    private static String[] skipLeadingEmpty(String[] elements) {
+        int first = 0;
+        while (first < elements.length && elements[first] != null && elements[first].isEmpty()) {
+            ++first;
+        }
+        return first == 0 ? elements : Arrays.copyOfRange(elements, first, elements.length);
+    }
+
+    private static int segmentEnd(String[] elements, int segmentSize, int segment) {
+        return Math.min(elements.length, (segment + 1) * segmentSize);
+    }
+
+    private static class MeasureTask extends RecursiveAction {
+        private final String[] elements;
+        private final int segmentSize;
+        private final int[] offsets;
+        private final int fromSegment;
+        private final int toSegment;
+
+        MeasureTask(String[] elements, int segmentSize, int[] offsets, int fromSegment, int toSegment) {
+            this.elements = elements;
+            this.segmentSize = segmentSize;
+            this.offsets = offsets;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSegment - fromSegment > 1) {
+                int middle = (fromSegment + toSegment) >>> 1;
+                invokeAll(new MeasureTask(elements, segmentSize, offsets, fromSegment, middle),
+                        new MeasureTask(elements, segmentSize, offsets, middle, toSegment));
+                return;
+            }
+
+            int start = fromSegment * segmentSize;
+            int end = segmentEnd(elements, segmentSize, fromSegment);
+            int length = end - start - 1;
+            for (int i = start; i < end; ++i) {
+                length += String.valueOf(elements[i]).length();
+            }
+            offsets[fromSegment + 1] = length;
+        }
+    }
+
+    private static class FillTask extends RecursiveAction {
+        private final String[] elements;
+        private final int segmentSize;
+        private final int[] offsets;
+        private final char[] result;
+        private final int fromSegment;
+        private final int toSegment;
+
+        FillTask(String[] elements, int segmentSize, int[] offsets, char[] result, int fromSegment, int toSegment) {
+            this.elements = elements;
+            this.segmentSize = segmentSize;
+            this.offsets = offsets;
+            this.result = result;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+        }
+
+        @Override
+        protected void compute() {
+            if (toSegment - fromSegment > 1) {
+                int middle = (fromSegment + toSegment) >>> 1;
+                invokeAll(new FillTask(elements, segmentSize, offsets, result, fromSegment, middle),
+                        new FillTask(elements, segmentSize, offsets, result, middle, toSegment));
+                return;
+            }
+
+            int position = offsets[fromSegment];
+            if (fromSegment > 0) {
+                result[position++] = SEPARATOR;
+            }
+
+            int start = fromSegment * segmentSize;
+            int end = segmentEnd(elements, segmentSize, fromSegment);
+            for (int i = start; i < end; ++i) {
+                if (i > start) {
+                    result[position++] = SEPARATOR;
+                }
+                String element = String.valueOf(elements[i]);
+                element.getChars(0, element.length(), result, position);
+                position += element.length();
+            }
+        }
+    }
+}
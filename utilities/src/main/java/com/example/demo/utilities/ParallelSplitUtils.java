@@ -0,0 +1,107 @@
+package com.example.demo.utilities;
+
+import com.example.demo.list.ArrayList;
+import com.example.demo.list.StringList;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+class ParallelSplitUtils {
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    public static StringList split(String source, String delimiters) {
+        return split(source, delimiters, ForkJoinPool.commonPool());
+    }
+
+    public static StringList split(String source, String delimiters, ForkJoinPool pool) {
+        return split(source, delimiters, ArrayList::new, pool);
+    }
+
+    public static <L extends StringList> L split(String source, String delimiters, Supplier<L> factory,
+                                                 ForkJoinPool pool) {
+        if (source.length() < PARALLEL_THRESHOLD || pool.getParallelism() < 2) {
+            return SplitUtils.split(source, delimiters, factory);
+        }
+
+        DelimiterSet delimiterSet = new DelimiterSet(delimiters);
+        ChunkTask[] tasks = createChunkTasks(source, delimiterSet, pool.getParallelism() * CHUNKS_PER_THREAD);
+        pool.invoke(new ForkAll(tasks));
+
+        L result = factory.get();
+        if (result instanceof ArrayList) {
+            int total = 0;
+            for (ChunkTask task : tasks) {
+                total += task.join().size();
+            }
+            ((ArrayList) result).ensureCapacity(result.size() + total);
+        }
+        for (ChunkTask task : tasks) {
+            result.addAll(task.join());
+        }
+
+        return result;
+    }
+
+    private static ChunkTask[] createChunkTasks(String source, DelimiterSet delimiters, int chunkCount) {
+        int length = source.length();
+        int chunkSize = Math.max(PARALLEL_THRESHOLD / CHUNKS_PER_THREAD, length / chunkCount + 1);
+        ChunkTask[] tasks = new ChunkTask[(length + chunkSize - 1) / chunkSize];
+        int count = 0;
+
+        int from = 0;
+        while (from < length) {
+            int to = Math.min(length, from + chunkSize);
+            while (to < length && !delimiters.contains(source.charAt(to))) {
+                ++to;
+            }
+            tasks[count++] = new ChunkTask(source, delimiters, from, to);
+            from = to;
+        }
+
+        return Arrays.copyOf(tasks, count);
+    }
+
+    private static class ForkAll extends RecursiveTask<Void> {
+        private final ChunkTask[] tasks;
+
+        ForkAll(ChunkTask[] tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Void compute() {
+            ForkJoinTask.invokeAll(tasks);
+            return null;
+        }
+    }
+
+    private static class ChunkTask extends RecursiveTask<ArrayList> {
+        private final String source;
+        private final DelimiterSet delimiters;
+        private final int from;
+        private final int to;
+
+        ChunkTask(String source, DelimiterSet delimiters, int from, int to) {
+            this.source = source;
+            this.delimiters = delimiters;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ArrayList compute() {
+            ArrayList result = new ArrayList();
+
+            Tokenizer tokenizer = new Tokenizer(source, delimiters, from, to);
+            while (tokenizer.advance()) {
+                result.add(tokenizer.materialize());
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.utilities;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+/**
+ * Streaming counterpart of {@link Tokenizer} for input that does not fit in memory.
+ * <p>
+ * Characters are read through a fixed window that only grows when a single token is
+ * longer than the window. The {@link #slice()} view points into that window and is
+ * only valid until the next call to {@link #advance()}; use {@link #materialize()} to
+ * keep a token.
+ */
+public class ReaderTokenizer {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final DelimiterSet delimiters;
+    private char[] buffer;
+    private CharBuffer view;
+    private int position;
+    private int fill;
+    private boolean eof;
+    private int start = -1;
+    private int end = -1;
+
+    public ReaderTokenizer(Reader reader, String delimiters) {
+        this(reader, delimiters, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ReaderTokenizer(Reader reader, String delimiters, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.reader = reader;
+        this.delimiters = new DelimiterSet(delimiters);
+        this.buffer = new char[bufferSize];
+        this.view = CharBuffer.wrap(buffer);
+    }
+
+    public boolean advance() {
+        start = end = -1;
+
+        while (true) {
+            if (position == fill) {
+                position = fill = 0;
+                if (!readMore()) {
+                    return false;
+                }
+            }
+            if (!delimiters.contains(buffer[position])) {
+                break;
+            }
+            ++position;
+        }
+
+        int tokenStart = position;
+        while (true) {
+            if (position == fill) {
+                tokenStart = compact(tokenStart);
+                if (!readMore()) {
+                    break;
+                }
+            }
+            if (delimiters.contains(buffer[position])) {
+                break;
+            }
+            ++position;
+        }
+
+        start = tokenStart;
+        end = position;
+        return true;
+    }
+
+    public int length() {
+        checkCurrent();
+        return end - start;
+    }
+
+    public CharSlice slice() {
+        checkCurrent();
+        return new CharSlice(view, start, end - start);
+    }
+
+    public String materialize() {
+        checkCurrent();
+        return new String(buffer, start, end - start);
+    }
+
+    private int compact(int tokenStart) {
+        int kept = fill - tokenStart;
+        if (tokenStart == 0 && kept == buffer.length) {
+            char[] grown = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, kept);
+            buffer = grown;
+            view = CharBuffer.wrap(buffer);
+        } else if (tokenStart > 0) {
+            System.arraycopy(buffer, tokenStart, buffer, 0, kept);
+        }
+        position = fill = kept;
+        return 0;
+    }
+
+    private boolean readMore() {
+        if (eof) {
+            return false;
+        }
+        try {
+            int read;
+            do {
+                read = reader.read(buffer, fill, buffer.length - fill);
+            } while (read == 0);
+
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            fill += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkCurrent() {
+        if (start < 0) {
+            throw new IllegalStateException("No current token");
+        }
+    }
+}
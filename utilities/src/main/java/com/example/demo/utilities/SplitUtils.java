@@ -3,37 +3,30 @@
  */
 package com.example.demo.utilities;
 
-import com.example.demo.list.LinkedList;
+import com.example.demo.list.ArrayList;
+import com.example.demo.list.StringList;
+
+import java.util.function.Supplier;
 
 class SplitUtils {
-    public static LinkedList split(String source) {
-        int lastFind = 0;
-        int currentFind = 0;
-        LinkedList result = new LinkedList();
-
-        while ((currentFind = source.indexOf(" ", lastFind)) != -1) {
-            String token = source.substring(lastFind);
-            if (currentFind != -1) {
-                token = token.substring(0, currentFind - lastFind);
-            }
-
-            addIfValid(token, result);
-            lastFind = currentFind + 1;
-        }
+    static final String DEFAULT_DELIMITERS = " ";
 
-        String token = source.substring(lastFind);
-        addIfValid(token, result);
+    public static StringList split(String source) {
+        return split(source, DEFAULT_DELIMITERS);
+    }
 
-        return result;
+    public static StringList split(String source, String delimiters) {
+        return split(source, delimiters, ArrayList::new);
     }
 
-    private static void addIfValid(String token, LinkedList list) {
-        if (isTokenValid(token)) {
-            list.add(token);
+    public static <L extends StringList> L split(String source, String delimiters, Supplier<L> factory) {
+        L result = factory.get();
+
+        Tokenizer tokenizer = new Tokenizer(source, delimiters);
+        while (tokenizer.advance()) {
+            result.add(tokenizer.materialize());
         }
-    }
 
-    private static boolean isTokenValid(String token) {
-        return !token.isEmpty();
+        return result;
     }
 }
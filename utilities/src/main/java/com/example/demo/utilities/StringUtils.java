@@ -3,14 +3,59 @@
  */
 package com.example.demo.utilities;
 
-import com.example.demo.list.LinkedList;
+import com.example.demo.list.StringList;
+
+import java.io.Reader;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public class StringUtils {
-    public static String join(LinkedList source) {
+    public static String join(StringList source) {
         return JoinUtils.join(source);
     }
 
-    public static LinkedList split(String source) {
+    public static String parallelJoin(StringList source) {
+        return ParallelJoinUtils.join(source);
+    }
+
+    public static String parallelJoin(StringList source, ForkJoinPool pool) {
+        return ParallelJoinUtils.join(source, pool);
+    }
+
+    public static StringList split(String source) {
         return SplitUtils.split(source);
     }
+
+    public static StringList split(String source, String delimiters) {
+        return SplitUtils.split(source, delimiters);
+    }
+
+    public static <L extends StringList> L split(String source, String delimiters, Supplier<L> factory) {
+        return SplitUtils.split(source, delimiters, factory);
+    }
+
+    public static StringList parallelSplit(String source) {
+        return ParallelSplitUtils.split(source, SplitUtils.DEFAULT_DELIMITERS);
+    }
+
+    public static StringList parallelSplit(String source, String delimiters) {
+        return ParallelSplitUtils.split(source, delimiters);
+    }
+
+    public static StringList parallelSplit(String source, String delimiters, ForkJoinPool pool) {
+        return ParallelSplitUtils.split(source, delimiters, pool);
+    }
+
+    public static <L extends StringList> L parallelSplit(String source, String delimiters, Supplier<L> factory,
+                                                         ForkJoinPool pool) {
+        return ParallelSplitUtils.split(source, delimiters, factory, pool);
+    }
+
+    public static Tokenizer tokenize(CharSequence source, String delimiters) {
+        return new Tokenizer(source, delimiters);
+    }
+
+    public static ReaderTokenizer tokenize(Reader source, String delimiters) {
+        return new ReaderTokenizer(source, delimiters);
+    }
 }
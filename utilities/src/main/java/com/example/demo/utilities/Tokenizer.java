@@ -0,0 +1,91 @@
+package com.example.demo.utilities;
+
+/**
+ * Single-pass tokenizer over an in-memory {@link CharSequence}.
+ * <p>
+ * Each call to {@link #advance()} moves to the next non-empty token and exposes it as
+ * a {@code [start, end)} index pair into the source. Nothing is copied unless the caller
+ * asks for a {@link #slice()} view or a {@link #materialize() materialized} string.
+ */
+public class Tokenizer {
+    private final CharSequence source;
+    private final DelimiterSet delimiters;
+    private final int limit;
+    private int position;
+    private int start = -1;
+    private int end = -1;
+
+    public Tokenizer(CharSequence source, String delimiters) {
+        this(source, delimiters, 0, source.length());
+    }
+
+    public Tokenizer(CharSequence source, String delimiters, int from, int to) {
+        this(source, new DelimiterSet(delimiters), from, to);
+    }
+
+    Tokenizer(CharSequence source, DelimiterSet delimiters, int from, int to) {
+        if (from < 0 || to > source.length() || from > to) {
+            throw new IndexOutOfBoundsException("Range is out of range");
+        }
+        this.source = source;
+        this.delimiters = delimiters;
+        this.position = from;
+        this.limit = to;
+    }
+
+    public boolean advance() {
+        int it = position;
+        while (it < limit && delimiters.contains(source.charAt(it))) {
+            ++it;
+        }
+
+        if (it == limit) {
+            position = limit;
+            start = end = -1;
+            return false;
+        }
+
+        start = it;
+        while (it < limit && !delimiters.contains(source.charAt(it))) {
+            ++it;
+        }
+        end = it;
+        position = it;
+
+        return true;
+    }
+
+    public int start() {
+        checkCurrent();
+        return start;
+    }
+
+    public int end() {
+        checkCurrent();
+        return end;
+    }
+
+    public int length() {
+        checkCurrent();
+        return end - start;
+    }
+
+    public CharSlice slice() {
+        checkCurrent();
+        return new CharSlice(source, start, end - start);
+    }
+
+    public String materialize() {
+        checkCurrent();
+        if (source instanceof String) {
+            return ((String) source).substring(start, end);
+        }
+        return source.subSequence(start, end).toString();
+    }
+
+    private void checkCurrent() {
+        if (start < 0) {
+            throw new IllegalStateException("No current token");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.utilities;
+
+import com.example.demo.list.ArrayList;
+import com.example.demo.list.StringList;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures sequential against parallel split/join for pool sizes 1, 2, 4, ... up to the number of
+ * available processors and prints the speedup. Not a test; run it with {@code ./gradlew
+ * :utilities:benchmark}, optionally passing {@code -PbenchmarkArgs="<chars> <rounds>"}.
+ */
+public class ParallelBenchmark {
+    private static final int DEFAULT_CHARS = 1 << 24;
+    private static final int DEFAULT_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int chars = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CHARS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        String text = randomText(chars);
+        ArrayList tokens = SplitUtils.split(text, " ", ArrayList::new);
+        System.out.printf("%d chars, %d tokens, %d processors, median of %d rounds%n",
+                chars, tokens.size(), processors, rounds);
+
+        double splitBase = median(rounds, () -> SplitUtils.split(text, " ", ArrayList::new));
+        double joinBase = median(rounds, () -> JoinUtils.join(tokens));
+        System.out.printf("%-12s %12s %8s %12s %8s%n", "threads", "split ms", "speedup", "join ms", "speedup");
+        System.out.printf("%-12s %12.1f %8s %12.1f %8s%n", "sequential", splitBase, "1.00", joinBase, "1.00");
+
+        for (int threads = 2; threads <= Math.max(2, processors); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double split = median(rounds, () -> ParallelSplitUtils.split(text, " ", ArrayList::new, pool));
+                double join = median(rounds, () -> ParallelJoinUtils.join(tokens, pool));
+                System.out.printf("%-12d %12.1f %8.2f %12.1f %8.2f%n",
+                        threads, split, splitBase / split, join, joinBase / join);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private interface Workload {
+        Object run();
+    }
+
+    private static double median(int rounds, Workload workload) {
+        // Warm up so the JIT has compiled the hot loops before timing.
+        for (int i = 0; i < 3; ++i) {
+            consume(workload.run());
+        }
+        double[] millis = new double[rounds];
+        for (int i = 0; i < rounds; ++i) {
+            long start = System.nanoTime();
+            consume(workload.run());
+            millis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(millis);
+        return millis[rounds / 2];
+    }
+
+    private static int sink;
+
+    private static void consume(Object result) {
+        sink += result instanceof StringList ? ((StringList) result).size() : result.hashCode();
+    }
+
+    private static String randomText(int length) {
+        Random random = new Random(1);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int word = 1 + random.nextInt(10);
+            for (int i = 0; i < word && builder.length() < length; ++i) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+            builder.append(' ');
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.utilities;
+
+import com.example.demo.list.ArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelJoinUtilsTest {
+    private static final int THRESHOLD = ParallelJoinUtils.PARALLEL_THRESHOLD;
+
+    private static ArrayList randomElements(int count, int leadingEmpty, long seed) {
+        Random random = new Random(seed);
+        ArrayList elements = new ArrayList(count);
+        for (int i = 0; i < count; ++i) {
+            if (i < leadingEmpty || random.nextInt(20) == 0) {
+                elements.add("");
+                continue;
+            }
+            StringBuilder element = new StringBuilder();
+            int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; ++j) {
+                element.append((char) ('가' + random.nextInt(100)));
+            }
+            elements.add(element.toString());
+        }
+        return elements;
+    }
+
+    private static void assertSameAsSequential(ArrayList elements, ForkJoinPool pool) {
+        assertEquals(JoinUtils.join(elements), ParallelJoinUtils.join(elements, pool));
+    }
+
+    @Test void testMatchesSequentialAroundThreshold() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int count : new int[] {THRESHOLD - 1, THRESHOLD, THRESHOLD + 1, 5 * THRESHOLD + 3}) {
+                assertSameAsSequential(randomElements(count, 0, count), pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testLeadingEmptyElementsAreSkipped() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertSameAsSequential(randomElements(2 * THRESHOLD, 10, 1), pool);
+            // Enough leading empties to drop below the threshold after skipping them.
+            assertSameAsSequential(randomElements(THRESHOLD + 5, 10, 2), pool);
+            // Leading empties spanning several whole segments.
+            assertSameAsSequential(randomElements(4 * THRESHOLD, THRESHOLD + 1, 3), pool);
+
+            ArrayList allEmpty = new ArrayList();
+            for (int i = 0; i < 2 * THRESHOLD; ++i) {
+                allEmpty.add("");
+            }
+            assertEquals("", ParallelJoinUtils.join(allEmpty, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testEmptyElementsInsideKeepSeparators() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayList elements = new ArrayList();
+            for (int i = 0; i < 2 * THRESHOLD; ++i) {
+                elements.add(i % 3 == 0 ? "x" : "");
+            }
+            assertSameAsSequential(elements, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testNullElementsJoinAsNull() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            String[] random = randomElements(20_000, 0, 7).toArray();
+            ArrayList elements = new ArrayList(random.length);
+            for (int i = 0; i < random.length; ++i) {
+                elements.add(i % 1000 == 0 || i == random.length - 1 ? null : random[i]);
+            }
+            assertSameAsSequential(elements, pool);
+
+            ArrayList leadingNull = new ArrayList();
+            leadingNull.add("");
+            leadingNull.add(null);
+            for (int i = 0; i < THRESHOLD; ++i) {
+                leadingNull.add("x");
+            }
+            assertSameAsSequential(leadingNull, pool);
+            assertTrue(ParallelJoinUtils.join(leadingNull, pool).startsWith("null x"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testSplitJoinRoundTrip() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayList elements = randomElements(3 * THRESHOLD, 0, 9);
+            ArrayList nonEmpty = new ArrayList();
+            for (String element : elements) {
+                if (!element.isEmpty()) {
+                    nonEmpty.add(element);
+                }
+            }
+            String joined = ParallelJoinUtils.join(nonEmpty, pool);
+            assertArrayEquals(nonEmpty.toArray(), ParallelSplitUtils.split(joined, " ", ArrayList::new, pool).toArray());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
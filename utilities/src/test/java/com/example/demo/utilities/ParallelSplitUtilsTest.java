@@ -0,0 +1,126 @@
+package com.example.demo.utilities;
+
+import com.example.demo.list.ArrayList;
+import com.example.demo.list.StringList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSplitUtilsTest {
+    private static final int THRESHOLD = ParallelSplitUtils.PARALLEL_THRESHOLD;
+    private static final String DELIMITERS = " ,";
+
+    private static String randomText(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            int word = 1 + random.nextInt(12);
+            for (int i = 0; i < word && builder.length() < length; ++i) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+            int gap = 1 + random.nextInt(random.nextInt(8) == 0 ? 20 : 2);
+            for (int i = 0; i < gap && builder.length() < length; ++i) {
+                builder.append(DELIMITERS.charAt(random.nextInt(DELIMITERS.length())));
+            }
+        }
+        return builder.toString();
+    }
+
+    /** Puts a run of delimiters across {@code at} and a long token right after it. */
+    private static String withBoundaryRuns(String source, int... positions) {
+        char[] chars = source.toCharArray();
+        for (int at : positions) {
+            for (int i = at - 40; i < at + 40 && i < chars.length; ++i) {
+                chars[i] = ' ';
+            }
+            for (int i = at + 40; i < at + 200 && i < chars.length; ++i) {
+                chars[i] = 'x';
+            }
+        }
+        return new String(chars);
+    }
+
+    private static void assertSameAsSequential(String source, ForkJoinPool pool) {
+        String[] expected = SplitUtils.split(source, DELIMITERS).toArray();
+        assertArrayEquals(expected, ParallelSplitUtils.split(source, DELIMITERS, pool).toArray());
+        assertArrayEquals(expected, ParallelSplitUtils.split(source, DELIMITERS, ArrayList::new, pool).toArray());
+    }
+
+    @Test void testMatchesSequentialAroundThreshold() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int length : new int[] {THRESHOLD - 1, THRESHOLD, THRESHOLD + 1, 3 * THRESHOLD + 17, 10 * THRESHOLD}) {
+                assertSameAsSequential(randomText(length, length), pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testChunkCutsInsideDelimiterRuns() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Chunks are at least THRESHOLD / 4 chars, so cuts are attempted at these multiples.
+            int chunk = THRESHOLD / 4;
+            String source = randomText(2 * THRESHOLD, 7);
+            assertSameAsSequential(withBoundaryRuns(source, chunk, 2 * chunk, 3 * chunk, 4 * chunk), pool);
+            assertSameAsSequential(withBoundaryRuns(source, chunk - 39, 2 * chunk + 39, 3 * chunk + 41), pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testLeadingAndTrailingDelimiters() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            char[] padding = new char[THRESHOLD / 2];
+            Arrays.fill(padding, ',');
+            String source = new String(padding) + randomText(2 * THRESHOLD, 11) + new String(padding);
+            assertSameAsSequential(source, pool);
+
+            char[] delimitersOnly = new char[2 * THRESHOLD];
+            Arrays.fill(delimitersOnly, ' ');
+            assertEquals(0, ParallelSplitUtils.split(new String(delimitersOnly), DELIMITERS, pool).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testSingleTokenLongerThanChunk() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            char[] token = new char[2 * THRESHOLD];
+            Arrays.fill(token, 'z');
+            String source = "a " + new String(token) + " b";
+            assertArrayEquals(new String[] {"a", new String(token), "b"},
+                    ParallelSplitUtils.split(source, DELIMITERS, pool).toArray());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testArrayListIsPresized() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ArrayList result = ParallelSplitUtils.split(randomText(4 * THRESHOLD, 3), DELIMITERS, ArrayList::new, pool);
+            assertEquals(result.size(), result.capacity());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testSingleThreadPoolFallsBack() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            String source = randomText(2 * THRESHOLD, 5);
+            StringList result = ParallelSplitUtils.split(source, DELIMITERS, pool);
+            assertArrayEquals(SplitUtils.split(source, DELIMITERS).toArray(), result.toArray());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
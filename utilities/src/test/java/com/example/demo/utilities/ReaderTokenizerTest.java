@@ -0,0 +1,127 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReaderTokenizerTest {
+    private static final String DELIMITERS = " ,　";
+
+    /** Hands out at most {@code chunk} characters per read, like a socket or pipe would. */
+    private static class ChunkedReader extends Reader {
+        private final String source;
+        private final int chunk;
+        private int position;
+
+        ChunkedReader(String source, int chunk) {
+            this.source = source;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == source.length()) {
+                return -1;
+            }
+            int count = Math.min(Math.min(length, chunk), source.length() - position);
+            source.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static List<String> tokens(Reader reader, int bufferSize) {
+        ReaderTokenizer tokenizer = new ReaderTokenizer(reader, DELIMITERS, bufferSize);
+        List<String> result = new ArrayList<>();
+        while (tokenizer.advance()) {
+            assertEquals(tokenizer.length(), tokenizer.slice().length());
+            assertEquals(tokenizer.slice().toString(), tokenizer.materialize());
+            result.add(tokenizer.materialize());
+        }
+        return result;
+    }
+
+    private static List<String> expected(String source) {
+        return TokenizerTest.tokens(new Tokenizer(source, DELIMITERS));
+    }
+
+    @Test void testMatchesTokenizerAcrossBufferSizes() {
+        String[] sources = {
+                "",
+                "   ",
+                "a",
+                "one two three",
+                "  leading and trailing  ",
+                "a,,b, ,c",
+                "하나　둘,셋",
+                "short averyveryverylongtokenthatexceedsthebuffer x",
+                "averyveryverylongtokenthatexceedsthebuffer",
+        };
+        for (String source : sources) {
+            for (int bufferSize = 1; bufferSize <= 8; ++bufferSize) {
+                for (int chunk = 1; chunk <= 3; ++chunk) {
+                    assertEquals(expected(source), tokens(new ChunkedReader(source, chunk), bufferSize),
+                            "source=\"" + source + "\" buffer=" + bufferSize + " chunk=" + chunk);
+                }
+                assertEquals(expected(source), tokens(new StringReader(source), bufferSize));
+            }
+        }
+    }
+
+    @Test void testRandomInput() {
+        Random random = new Random(42);
+        String alphabet = "ab ,　가";
+        for (int round = 0; round < 200; ++round) {
+            StringBuilder source = new StringBuilder();
+            int length = random.nextInt(64);
+            for (int i = 0; i < length; ++i) {
+                source.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            int bufferSize = 1 + random.nextInt(6);
+            int chunk = 1 + random.nextInt(5);
+            assertEquals(expected(source.toString()), tokens(new ChunkedReader(source.toString(), chunk), bufferSize),
+                    "source=\"" + source + "\"");
+        }
+    }
+
+    @Test void testSliceIsOnlyValidUntilAdvance() {
+        ReaderTokenizer tokenizer = new ReaderTokenizer(new StringReader("ab cd"), " ", 2);
+        assertTrue(tokenizer.advance());
+        String first = tokenizer.materialize();
+        assertTrue(tokenizer.advance());
+        assertEquals("ab", first);
+        assertEquals("cd", tokenizer.materialize());
+        assertFalse(tokenizer.advance());
+        assertThrows(IllegalStateException.class, tokenizer::materialize);
+    }
+
+    @Test void testRejectsInvalidBufferSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ReaderTokenizer(new StringReader(""), " ", 0));
+    }
+
+    @Test void testWrapsIOException() {
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("boom");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> new ReaderTokenizer(failing, " ").advance());
+    }
+}
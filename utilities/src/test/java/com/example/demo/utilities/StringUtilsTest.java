@@ -0,0 +1,48 @@
+package com.example.demo.utilities;
+
+import com.example.demo.list.ArrayList;
+import com.example.demo.list.LinkedList;
+import com.example.demo.list.StringList;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringUtilsTest {
+    @Test void testSplitReturnsArrayBackedList() {
+        StringList result = StringUtils.split("one two  three");
+        assertTrue(result instanceof ArrayList);
+        assertArrayEquals(new String[] {"one", "two", "three"}, result.toArray());
+        assertTrue(StringUtils.split("a,b", ",") instanceof ArrayList);
+    }
+
+    @Test void testParallelSplitReturnsArrayBackedList() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StringBuilder source = new StringBuilder();
+            while (source.length() <= ParallelSplitUtils.PARALLEL_THRESHOLD) {
+                source.append("token ");
+            }
+            StringList result = StringUtils.parallelSplit(source.toString(), " ", pool);
+            assertTrue(result instanceof ArrayList);
+            assertArrayEquals(StringUtils.split(source.toString()).toArray(), result.toArray());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test void testSplitIntoRequestedListType() {
+        LinkedList result = StringUtils.split("a b", " ", LinkedList::new);
+        assertEquals(2, result.size());
+    }
+
+    @Test void testJoinAcceptsAnyStringList() {
+        assertEquals("a b", StringUtils.join(StringUtils.split(" a  b ")));
+        LinkedList linked = new LinkedList();
+        linked.add("x");
+        linked.add("y");
+        assertEquals("x y", StringUtils.join(linked));
+        assertEquals("x y", StringUtils.parallelJoin(linked));
+    }
+}
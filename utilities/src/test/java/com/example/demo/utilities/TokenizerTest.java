@@ -0,0 +1,86 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenizerTest {
+    static List<String> tokens(Tokenizer tokenizer) {
+        List<String> result = new ArrayList<>();
+        while (tokenizer.advance()) {
+            result.add(tokenizer.materialize());
+        }
+        return result;
+    }
+
+    @Test void testSingleDelimiter() {
+        assertEquals(List.of("one", "two", "three"), tokens(new Tokenizer("one two three", " ")));
+    }
+
+    @Test void testMultipleDelimiters() {
+        assertEquals(List.of("a", "b", "c", "d"), tokens(new Tokenizer("a,b;c d", ",; ")));
+    }
+
+    @Test void testLeadingTrailingAndRepeatedDelimiters() {
+        assertEquals(List.of("a", "b"), tokens(new Tokenizer("  ,a,, ;b;; ", " ,;")));
+        assertEquals(List.of(), tokens(new Tokenizer(" ,;, ", " ,;")));
+        assertEquals(List.of(), tokens(new Tokenizer("", " ")));
+    }
+
+    @Test void testNonAsciiDelimiters() {
+        assertEquals(List.of("하나", "둘", "셋"), tokens(new Tokenizer("하나　둘·셋", "　·")));
+        assertEquals(List.of("a·b", "c"), tokens(new Tokenizer("a·b c", " ")));
+    }
+
+    @Test void testRange() {
+        Tokenizer tokenizer = new Tokenizer("skip one two skip", " ", 5, 12);
+        assertEquals(List.of("one", "two"), tokens(tokenizer));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Tokenizer("abc", " ", 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Tokenizer("abc", " ", 2, 1));
+    }
+
+    @Test void testPositionsAndSlice() {
+        String source = "  alpha beta";
+        Tokenizer tokenizer = new Tokenizer(source, " ");
+
+        assertTrue(tokenizer.advance());
+        assertEquals(2, tokenizer.start());
+        assertEquals(7, tokenizer.end());
+        assertEquals(5, tokenizer.length());
+        CharSlice slice = tokenizer.slice();
+        assertEquals(2, slice.offset());
+        assertTrue(slice.contentEquals("alpha"));
+        assertEquals("ph", slice.subSequence(2, 4).toString());
+
+        assertTrue(tokenizer.advance());
+        assertEquals("beta", tokenizer.materialize());
+        assertFalse(tokenizer.advance());
+        assertFalse(tokenizer.advance());
+    }
+
+    @Test void testNoCurrentToken() {
+        Tokenizer tokenizer = new Tokenizer("a", " ");
+        assertThrows(IllegalStateException.class, tokenizer::materialize);
+        tokenizer.advance();
+        tokenizer.advance();
+        assertThrows(IllegalStateException.class, tokenizer::slice);
+    }
+
+    @Test void testNonStringSource() {
+        StringBuilder source = new StringBuilder("x y");
+        assertEquals(List.of("x", "y"), tokens(new Tokenizer(source, " ")));
+    }
+
+    @Test void testRejectsEmptyDelimiters() {
+        assertThrows(IllegalArgumentException.class, () -> new Tokenizer("a", ""));
+    }
+
+    @Test void testMatchesSplitUtils() {
+        String source = " the  quick,brown ;fox ";
+        assertArrayEquals(tokens(new Tokenizer(source, " ,;")).toArray(new String[0]),
+                SplitUtils.split(source, " ,;").toArray());
+    }
+}